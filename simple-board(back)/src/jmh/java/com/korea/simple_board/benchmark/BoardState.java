@@ -0,0 +1,86 @@
+package com.korea.simple_board.benchmark;
+
+import com.korea.simple_board.SimpleBoardApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 공통 상태
+ * 내장 H2 위에 seed 프로필로 애플리케이션 컨텍스트를 띄워 지정한 규모로 데이터를 채운다.
+ * 규모는 -p users=... -p posts=... 로 조정한다.
+ */
+@State(Scope.Benchmark)
+public class BoardState {
+    
+    @Param("1000")
+    public int users;
+    
+    @Param("10000")
+    public int posts;
+    
+    @Param("5")
+    public int commentsPerPost;
+    
+    @Param("10")
+    public int scrapsPerUser;
+    
+    public ConfigurableApplicationContext context;
+    
+    private long minPostId;
+    private long maxPostId;
+    private List<Long> userIds;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 검색 색인과 집계 보정은 데이터 생성 이후 ApplicationReadyEvent 에서 처리됨
+        List<String> args = new ArrayList<>(List.of(
+                "--board.seed.users=" + users,
+                "--board.seed.posts=" + posts,
+                "--board.seed.comments-per-post=" + commentsPerPost,
+                "--board.seed.scraps-per-user=" + scrapsPerUser));
+        args.addAll(additionalArgs());
+        context = new SpringApplicationBuilder(SimpleBoardApplication.class)
+                .profiles("bench", "seed")
+                .run(args.toArray(String[]::new));
+        
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        userIds = jdbcTemplate.queryForList("SELECT id FROM users", Long.class);
+        minPostId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM posts", Long.class);
+        maxPostId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM posts", Long.class);
+    }
+    
+    /**
+     * 하위 상태에서 추가할 실행 인자 (웹 서버 설정 등)
+     */
+    protected List<String> additionalArgs() {
+        return List.of();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+    
+    public long randomPostId() {
+        return ThreadLocalRandom.current().nextLong(minPostId, maxPostId + 1);
+    }
+    
+    public Long randomUserId() {
+        return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.korea.simple_board.benchmark;
+
+import com.korea.simple_board.dto.CommentDto;
+import com.korea.simple_board.dto.PostCursor;
+import com.korea.simple_board.service.CommentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 목록 조회 벤치마크
+ * getCommentsFirstPage 는 커서 조회 첫 페이지(20개)를 측정한다.
+ * readWriteTransaction 은 전체 댓글 조회를 읽기-쓰기 트랜잭션 안에서 실행해 읽기 전용 트랜잭션과 비교한다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommentServiceBenchmark {
+    
+    private CommentService commentService;
+    private TransactionTemplate readWriteTransaction;
+    
+    @Setup(Level.Trial)
+    public void setUp(BoardState state) {
+        commentService = state.getBean(CommentService.class);
+        readWriteTransaction = new TransactionTemplate(state.getBean(PlatformTransactionManager.class));
+    }
+    
+    @Benchmark
+    public CommentDto.ThreadResponse getCommentsByPostId(BoardState state) {
+        return commentService.getCommentsByPostId(state.randomPostId());
+    }
+    
+    @Benchmark
+    public CommentDto.ThreadResponse getCommentsFirstPage(BoardState state) {
+        return commentService.getCommentsByPostId(state.randomPostId(), PostCursor.first(), 20);
+    }
+    
+    @Benchmark
+    public CommentDto.ThreadResponse readWriteTransaction(BoardState state) {
+        long postId = state.randomPostId();
+        return readWriteTransaction.execute(status -> commentService.getCommentsByPostId(postId));
+    }
+}
@@ -0,0 +1,43 @@
+package com.korea.simple_board.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 요청 처리 비교 부하 벤치마크
+ * Tomcat 최대 스레드 수보다 많은 클라이언트 스레드로 목록/댓글 API 를 동시에 호출한다.
+ * ./gradlew jmh -PjavaVersion=21 -PjmhArgs="HttpThreadingBenchmark"
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(256)
+@State(Scope.Benchmark)
+public class HttpThreadingBenchmark {
+    
+    @Benchmark
+    public int getPostsFirstPage(WebBoardState state) throws IOException, InterruptedException {
+        return send(state, "/posts?after=&size=20");
+    }
+    
+    @Benchmark
+    public int getComments(WebBoardState state) throws IOException, InterruptedException {
+        return send(state, "/api/comments/" + state.randomPostId());
+    }
+    
+    private int send(WebBoardState state, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(state.baseUrl + path)).GET().build();
+        HttpResponse<byte[]> response = state.httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " 응답 코드: " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
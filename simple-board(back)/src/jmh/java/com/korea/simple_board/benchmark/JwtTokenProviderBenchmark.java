@@ -0,0 +1,73 @@
+package com.korea.simple_board.benchmark;
+
+import com.korea.simple_board.entity.User;
+import com.korea.simple_board.security.JwtTokenProvider;
+import com.korea.simple_board.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 벤치마크 (DB 없이 JwtTokenProvider 만 구성)
+ * tokenCacheSize=0 은 매번 서명을 검증하는 경우
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+    
+    @Param({"0", "10000"})
+    public int tokenCacheSize;
+    
+    private AnnotationConfigApplicationContext context;
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("bench", Map.of(
+                "jwt.secret", "benchmark-secret-key-for-jmh-only-make-it-long-enough-for-hs512-signing",
+                "jwt.expiration", "3600000",
+                "jwt.cache.maximum-size", String.valueOf(tokenCacheSize))));
+        context.register(JwtTokenProvider.class);
+        context.refresh();
+        
+        jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+        User user = User.builder()
+                .id(1L)
+                .userId("bench0")
+                .name("사용자0")
+                .role(User.Role.USER)
+                .build();
+        token = jwtTokenProvider.generateToken(user);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+    
+    @Benchmark
+    public Optional<Claims> verify() {
+        return jwtTokenProvider.verify(token);
+    }
+    
+    @Benchmark
+    public Optional<UserPrincipal> getPrincipal() {
+        return jwtTokenProvider.getPrincipal(token);
+    }
+}
@@ -0,0 +1,56 @@
+package com.korea.simple_board.benchmark;
+
+import com.korea.simple_board.dto.PostCursor;
+import com.korea.simple_board.dto.PostDto;
+import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.service.PostService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록/검색 조회 벤치마크
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostServiceBenchmark {
+    
+    @Param({"10", "50"})
+    public int pageSize;
+    
+    @Param("게시판 성능")
+    public String keyword;
+    
+    private PostService postService;
+    
+    @Setup(Level.Trial)
+    public void setUp(BoardState state) {
+        postService = state.getBean(PostService.class);
+    }
+    
+    @Benchmark
+    public Page<PostDto.PostListResponse> getPosts(BoardState state) {
+        return postService.getPosts(null, PageRequest.of(0, pageSize), state.randomUserId());
+    }
+    
+    @Benchmark
+    public Page<PostDto.PostListResponse> getPostsByCategory(BoardState state) {
+        return postService.getPosts(Post.Category.QNA, PageRequest.of(0, pageSize), state.randomUserId());
+    }
+    
+    @Benchmark
+    public PostDto.CursorResponse getPostsByCursor(BoardState state) {
+        return postService.getPosts(null, PostCursor.first(), pageSize, state.randomUserId());
+    }
+    
+    @Benchmark
+    public Page<PostDto.PostListResponse> searchPosts(BoardState state) {
+        return postService.searchPosts(keyword, PageRequest.of(0, pageSize), state.randomUserId());
+    }
+}
@@ -0,0 +1,119 @@
+package com.korea.simple_board.benchmark;
+
+import com.korea.simple_board.entity.PostFile;
+import com.korea.simple_board.entity.User;
+import com.korea.simple_board.repository.PostFileRepository;
+import com.korea.simple_board.repository.PostRepository;
+import com.korea.simple_board.repository.UserRepository;
+import com.korea.simple_board.seed.ZipfianGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 벤치마크
+ * 아이디로 사용자 조회, 게시글 작성자 이름 조회, 게시글별 첨부파일 조회를 Zipf 분포로 반복하며
+ * secondLevelCache=true/false 에서 처리량과 roundTrips(요청당 DB 쿼리 수)를 비교한다.
+ * (roundTrips 처리량 / 전체 처리량 = 요청당 쿼리 수)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecondLevelCacheBenchmark {
+    
+    private UserRepository userRepository;
+    private PostRepository postRepository;
+    private PostFileRepository postFileRepository;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private List<String> userIds;
+    private List<Long> postIds;
+    private ZipfianGenerator userPopularity;
+    private ZipfianGenerator postPopularity;
+    
+    /**
+     * 2차 캐시/쿼리 캐시 사용 여부를 고르는 상태
+     */
+    @State(Scope.Benchmark)
+    public static class CacheBoardState extends BoardState {
+        
+        @Param({"true", "false"})
+        public boolean secondLevelCache;
+        
+        @Override
+        protected List<String> additionalArgs() {
+            return List.of(
+                    "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                    "--spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache);
+        }
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp(CacheBoardState state) {
+        userRepository = state.getBean(UserRepository.class);
+        postRepository = state.getBean(PostRepository.class);
+        postFileRepository = state.getBean(PostFileRepository.class);
+        transactionTemplate = state.getBean(TransactionTemplate.class);
+        
+        statistics = state.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        
+        JdbcTemplate jdbcTemplate = state.getBean(JdbcTemplate.class);
+        userIds = jdbcTemplate.queryForList("SELECT user_id FROM users ORDER BY id", String.class);
+        postIds = jdbcTemplate.queryForList("SELECT id FROM posts ORDER BY id", Long.class);
+        userPopularity = new ZipfianGenerator(userIds.size(), 1.0);
+        postPopularity = new ZipfianGenerator(postIds.size(), 1.0);
+    }
+    
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Requester {
+        
+        public long roundTrips;
+        
+        private final SplittableRandom random = new SplittableRandom();
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            roundTrips = 0;
+        }
+    }
+    
+    @Benchmark
+    public Optional<User> findUserByUserId(Requester requester) {
+        long before = statistics.getPrepareStatementCount();
+        Optional<User> user = userRepository.findByUserId(userIds.get(userPopularity.next(requester.random)));
+        requester.roundTrips += statistics.getPrepareStatementCount() - before;
+        return user;
+    }
+    
+    @Benchmark
+    public String loadPostAuthor(Requester requester) {
+        Long postId = postIds.get(postPopularity.next(requester.random));
+        long before = statistics.getPrepareStatementCount();
+        String authorName = transactionTemplate.execute(status ->
+                postRepository.findById(postId).map(post -> post.getAuthor().getName()).orElse(null));
+        requester.roundTrips += statistics.getPrepareStatementCount() - before;
+        return authorName;
+    }
+    
+    @Benchmark
+    public List<PostFile> findPostFiles(Requester requester) {
+        Long postId = postIds.get(postPopularity.next(requester.random));
+        long before = statistics.getPrepareStatementCount();
+        List<PostFile> files = postFileRepository.findByPostId(postId);
+        requester.roundTrips += statistics.getPrepareStatementCount() - before;
+        return files;
+    }
+}
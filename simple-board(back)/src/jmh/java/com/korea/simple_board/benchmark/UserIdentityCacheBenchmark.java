@@ -0,0 +1,86 @@
+package com.korea.simple_board.benchmark;
+
+import com.korea.simple_board.cache.UserIdentityCache;
+import com.korea.simple_board.dto.UserIdentity;
+import com.korea.simple_board.repository.UserRepository;
+import com.korea.simple_board.seed.ZipfianGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아이디 → 사용자 식별 정보 조회 벤치마크
+ * 일부 사용자에게 요청이 몰리는 분포(Zipf)로 조회하며, roundTrips 카운터로 요청당 DB 쿼리 수를 비교한다.
+ * (roundTrips 처리량 / 전체 처리량 = 요청당 쿼리 수)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserIdentityCacheBenchmark {
+    
+    @Param("10000")
+    public int cacheSize;
+    
+    private UserRepository userRepository;
+    private UserIdentityCache userIdentityCache;
+    private Statistics statistics;
+    private List<String> userIds;
+    private ZipfianGenerator popularity;
+    
+    @Setup(Level.Trial)
+    public void setUp(BoardState state) {
+        userRepository = state.getBean(UserRepository.class);
+        userIdentityCache = new UserIdentityCache(userRepository, new SimpleMeterRegistry(), cacheSize, 300);
+        
+        statistics = state.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        
+        userIds = state.getBean(JdbcTemplate.class).queryForList("SELECT user_id FROM users ORDER BY id", String.class);
+        popularity = new ZipfianGenerator(userIds.size(), 1.0);
+    }
+    
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Requester {
+        
+        public long roundTrips;
+        
+        private final SplittableRandom random = new SplittableRandom();
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            roundTrips = 0;
+        }
+    }
+    
+    @Benchmark
+    public Optional<UserIdentity> cached(Requester requester) {
+        long before = statistics.getPrepareStatementCount();
+        Optional<UserIdentity> identity = userIdentityCache.find(nextUserId(requester));
+        requester.roundTrips += statistics.getPrepareStatementCount() - before;
+        return identity;
+    }
+    
+    @Benchmark
+    public Optional<UserIdentity> repository(Requester requester) {
+        long before = statistics.getPrepareStatementCount();
+        Optional<UserIdentity> identity = userRepository.findIdentityByUserId(nextUserId(requester));
+        requester.roundTrips += statistics.getPrepareStatementCount() - before;
+        return identity;
+    }
+    
+    private String nextUserId(Requester requester) {
+        return userIds.get(popularity.next(requester.random));
+    }
+}
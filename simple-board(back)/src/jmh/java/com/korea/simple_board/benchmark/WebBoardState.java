@@ -0,0 +1,55 @@
+package com.korea.simple_board.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 내장 Tomcat 까지 띄운 벤치마크 상태
+ * threading 파라미터로 요청 처리를 플랫폼 스레드(Tomcat 스레드 풀)와 가상 스레드 중에서 고른다.
+ * 가상 스레드는 JDK 21 이상에서만 동작하므로 ./gradlew jmh -PjavaVersion=21 로 실행한다.
+ */
+@State(Scope.Benchmark)
+public class WebBoardState extends BoardState {
+    
+    @Param({"platform", "virtual"})
+    public String threading;
+    
+    // 플랫폼 스레드 모드의 Tomcat 최대 스레드 수 (가상 스레드 모드에서는 사용하지 않음)
+    @Param("50")
+    public int tomcatMaxThreads;
+    
+    public HttpClient httpClient;
+    public String baseUrl;
+    
+    @Override
+    protected List<String> additionalArgs() {
+        boolean virtual = "virtual".equals(threading);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("가상 스레드 모드는 JDK 21 이상에서 실행해야 합니다. (-PjavaVersion=21)");
+        }
+        
+        return List.of(
+                "--spring.main.web-application-type=servlet",
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--server.tomcat.threads.max=" + tomcatMaxThreads);
+    }
+    
+    @Setup(Level.Trial)
+    public void setUpClient() {
+        String port = context.getEnvironment().getProperty("local.server.port");
+        String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+        baseUrl = "http://localhost:" + port + contextPath;
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+}
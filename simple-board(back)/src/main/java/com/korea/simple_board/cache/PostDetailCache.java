@@ -0,0 +1,87 @@
+package com.korea.simple_board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.korea.simple_board.dto.PostDto;
+import com.korea.simple_board.event.PostChangedEvent;
+import com.korea.simple_board.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 응답 캐시
+ * 사용자별 값(스크랩 여부)과 실시간 조회수를 제외한 상세 응답을 보관하며,
+ * 게시글 수정/삭제, 댓글 작성/삭제, 스크랩 변경이 커밋되면 해당 게시글 항목을 제거하고,
+ * 사용자 정보가 바뀌면 그 사용자가 쓴 게시글 항목(작성자 이름)을 제거한다.
+ * 적중/실패/제거 통계는 cache=postDetail 태그의 cache.* 지표로 노출한다.
+ */
+@Component
+public class PostDetailCache {
+    
+    private final Cache<Long, PostDto.PostResponse> cache;
+    
+    // 제거가 일어날 때마다 증가, 로드 시작 이후 제거가 있었으면 로드한 값을 저장하지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    public PostDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${board.cache.post-detail.maximum-size:10000}") long maximumSize,
+            @Value("${board.cache.post-detail.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postDetail");
+    }
+    
+    /**
+     * 캐시 조회 (없으면 loader 로 생성하여 저장)
+     * loader 의 DB 조회는 캐시 내부 잠금 밖에서 실행한다. (잠금 안에서 I/O 를 기다리면 가상 스레드가 고정됨)
+     * 로드하는 동안 제거가 일어났다면 로드한 값이 이미 오래된 것일 수 있으므로 저장하지 않는다.
+     */
+    public PostDto.PostResponse get(Long postId, Function<Long, PostDto.PostResponse> loader) {
+        PostDto.PostResponse cached = cache.getIfPresent(postId);
+        if (cached != null) {
+            return cached;
+        }
+        
+        long version = invalidations.get();
+        PostDto.PostResponse loaded = loader.apply(postId);
+        // 제거는 invalidations 증가 후 같은 키 잠금에서 실행되므로, 잠금 안에서 확인하면 제거 이후 저장되는 일이 없음
+        cache.asMap().compute(postId, (id, current) -> invalidations.get() == version ? loaded : current);
+        return loaded;
+    }
+    
+    public void evict(Long postId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(postId);
+    }
+    
+    /**
+     * 작성자의 게시글 항목 제거 (작성자 이름이 캐시된 응답에 포함되어 있음)
+     */
+    public void evictByAuthor(String authorUserId) {
+        invalidations.incrementAndGet();
+        cache.asMap().values().removeIf(post -> authorUserId.equals(post.getAuthorUserId()));
+    }
+    
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostChangedEvent.Type.CREATED) {
+            evict(event.getPostId());
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        evictByAuthor(event.getUserId());
+    }
+}
@@ -0,0 +1,69 @@
+package com.korea.simple_board.cache;
+
+import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.event.PostChangedEvent;
+import com.korea.simple_board.event.UserChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록 변경 버전 (목록 ETag 용)
+ * 카테고리별 버전과 전체 목록 버전을 두고, 목록에 보이는 값(게시글 작성/수정/삭제, 댓글 수, 스크랩 수)이
+ * 바뀌는 변경이 커밋되면 올린다. 사용자 정보가 바뀌면 목록의 작성자 이름이 달라지므로 모든 목록 버전을 올린다.
+ * 조회수는 조회마다 바뀌므로 버전에 반영하지 않는다.
+ * 버전 앞에 시작 시각을 붙여 서버 재시작 후 이전 ETag 와 겹치지 않게 한다.
+ * 버전은 인스턴스 메모리에만 있으므로 단일 인스턴스 배포를 전제로 한다.
+ * (여러 인스턴스에서는 다른 인스턴스의 변경을 알 수 없어 오래된 목록에 304 를 줄 수 있음)
+ */
+@Component
+public class PostListVersions {
+    
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong allVersion = new AtomicLong();
+    private final Map<Post.Category, AtomicLong> categoryVersions = new EnumMap<>(Post.Category.class);
+    
+    public PostListVersions() {
+        for (Post.Category category : Post.Category.values()) {
+            categoryVersions.put(category, new AtomicLong());
+        }
+    }
+    
+    /**
+     * 목록 버전 (category 가 null 이면 전체 목록)
+     */
+    public String get(Post.Category category) {
+        AtomicLong version = category != null ? categoryVersions.get(category) : allVersion;
+        return epoch + "." + version.get();
+    }
+    
+    public void increment(Post.Category category) {
+        categoryVersions.get(category).incrementAndGet();
+        allVersion.incrementAndGet();
+    }
+    
+    public void incrementAll() {
+        categoryVersions.values().forEach(AtomicLong::incrementAndGet);
+        allVersion.incrementAndGet();
+    }
+    
+    /**
+     * 수정은 카테고리가 바뀌었을 수 있으므로 모든 목록 버전을 올림
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getCategory() == null || event.getType() == PostChangedEvent.Type.UPDATED) {
+            incrementAll();
+        } else {
+            increment(event.getCategory());
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        incrementAll();
+    }
+}
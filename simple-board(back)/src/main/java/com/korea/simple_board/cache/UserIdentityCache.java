@@ -0,0 +1,74 @@
+package com.korea.simple_board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.korea.simple_board.dto.UserIdentity;
+import com.korea.simple_board.event.UserChangedEvent;
+import com.korea.simple_board.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 식별 정보 캐시 (userId → 내부 ID, 이름, 권한)
+ * 아이디로 사용자를 찾는 조회 앞에 두며, 사용자 정보 변경이 커밋되면 해당 항목을 제거한다.
+ * 없는 아이디는 저장하지 않는다.
+ * 적중/실패/제거 통계는 cache=userIdentity 태그의 cache.* 지표로 노출한다.
+ */
+@Component
+public class UserIdentityCache {
+    
+    private final UserRepository userRepository;
+    private final Cache<String, UserIdentity> cache;
+    
+    // 제거가 일어날 때마다 증가, 조회 시작 이후 제거가 있었으면 조회한 값을 저장하지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    public UserIdentityCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${board.cache.user-identity.maximum-size:10000}") long maximumSize,
+            @Value("${board.cache.user-identity.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userIdentity");
+    }
+    
+    public Optional<UserIdentity> find(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        UserIdentity cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        // DB 조회는 캐시 내부 잠금 밖에서 실행 (잠금 안에서 I/O 를 기다리면 가상 스레드가 고정됨)
+        long version = invalidations.get();
+        Optional<UserIdentity> loaded = userRepository.findIdentityByUserId(userId);
+        // 제거는 invalidations 증가 후 같은 키 잠금에서 실행되므로, 잠금 안에서 확인하면 제거 이후 저장되는 일이 없음
+        loaded.ifPresent(identity -> cache.asMap().compute(userId,
+                (id, current) -> invalidations.get() == version ? identity : current));
+        return loaded;
+    }
+    
+    public void evict(String userId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(userId);
+    }
+    
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUserId());
+    }
+}
@@ -7,10 +7,12 @@ import com.korea.simple_board.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 @Component
+@Profile("!seed")
 @RequiredArgsConstructor
 @Slf4j
 public class DataInitializer implements CommandLineRunner {
@@ -1,14 +1,21 @@
 package com.korea.simple_board.config;
 
+import com.korea.simple_board.security.JwtAuthenticationFilter;
+import com.korea.simple_board.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -20,6 +27,8 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class SecurityConfig {
     
+    private final JwtTokenProvider jwtTokenProvider;
+    
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -27,6 +36,17 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // 작성/수정/삭제와 내 정보 관련 요청은 JWT 인증 필요
+                .requestMatchers(HttpMethod.POST, "/posts", "/posts/*/scrap").authenticated()
+                .requestMatchers(HttpMethod.PUT, "/posts/**").authenticated()
+                .requestMatchers(HttpMethod.DELETE, "/posts/**").authenticated()
+                .requestMatchers("/posts/scrapped/**").authenticated()
+                .requestMatchers("/user/info", "/user/update", "/user/delete", "/user/check-password").authenticated()
+                .requestMatchers(HttpMethod.POST, "/api/comments/**").authenticated()
+                .requestMatchers(HttpMethod.PUT, "/api/comments/**").authenticated()
+                .requestMatchers(HttpMethod.DELETE, "/api/comments/**").authenticated()
+                .requestMatchers(HttpMethod.POST, "/files/upload").authenticated()
+                .requestMatchers(HttpMethod.DELETE, "/files/delete").authenticated()
                 .requestMatchers("/auth/**").permitAll()
                 .requestMatchers("/user/**").permitAll()
                 .requestMatchers("/posts/**").permitAll()
@@ -36,6 +56,10 @@ public class SecurityConfig {
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                 .anyRequest().permitAll()
             )
+            .exceptionHandling(exception -> exception
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
             .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable()));
         
         return http.build();
@@ -54,8 +78,11 @@ public class SecurityConfig {
         return source;
     }
     
+    /**
+     * BCrypt cost 는 설정값으로 조정 (변경 시 기존 해시는 로그인할 때 새 cost 로 다시 저장됨)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${board.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 } 
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.korea.simple_board.controller;
 
 import com.korea.simple_board.dto.UserDto;
+import com.korea.simple_board.security.PasswordHashingBusyException;
 import com.korea.simple_board.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -78,6 +79,9 @@ public class AuthController {
             response.put("message", "회원가입이 완료되었습니다.");
             response.put("user", userInfo);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            // 429 응답은 PasswordHashingBusyHandler 에서 처리
+            throw e;
         } catch (Exception e) {
             log.error("회원가입 중 오류 발생: ", e);
             Map<String, Object> error = new HashMap<>();
@@ -112,6 +116,9 @@ public class AuthController {
             response.put("success", isValid);
             response.put("message", isValid ? "비밀번호가 일치합니다." : "비밀번호가 일치하지 않습니다.");
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            // 429 응답은 PasswordHashingBusyHandler 에서 처리
+            throw e;
         } catch (Exception e) {
             log.error("비밀번호 확인 중 오류 발생: ", e);
             Map<String, Object> error = new HashMap<>();
@@ -133,6 +140,9 @@ public class AuthController {
             response.put("name", loginResponse.getName());
             response.put("email", loginResponse.getEmail());
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            // 429 응답은 PasswordHashingBusyHandler 에서 처리
+            throw e;
         } catch (Exception e) {
             log.error("로그인 중 오류 발생: ", e);
             Map<String, Object> error = new HashMap<>();
@@ -141,4 +151,4 @@ public class AuthController {
             return ResponseEntity.badRequest().body(error);
         }
     }
-} 
\ No newline at end of file
+}
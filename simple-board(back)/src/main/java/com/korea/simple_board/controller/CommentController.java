@@ -1,8 +1,11 @@
 package com.korea.simple_board.controller;
 
+import com.korea.simple_board.dto.PostCursor;
+import com.korea.simple_board.security.UserPrincipal;
 import com.korea.simple_board.service.CommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -20,12 +23,11 @@ public class CommentController {
     public ResponseEntity<Map<String, Object>> createComment(
             @PathVariable Long postId,
             @RequestBody Map<String, String> request,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal UserPrincipal principal) {
         
-        String userId = extractUserIdFromToken(token);
         String content = request.get("content");
         
-        Map<String, Object> result = commentService.createComment(postId, content, userId);
+        Map<String, Object> result = commentService.createComment(postId, content, principal.getId());
         
         if ((Boolean) result.get("success")) {
             return ResponseEntity.ok(result);
@@ -34,15 +36,22 @@ public class CommentController {
         }
     }
     
-    // 게시글의 댓글 목록 조회
+    // 게시글의 댓글 목록 조회 (after 파라미터가 있으면 커서 기반, 첫 페이지는 빈 값)
     @GetMapping("/{postId}")
-    public ResponseEntity<Map<String, Object>> getCommentsByPostId(@PathVariable Long postId) {
-        Map<String, Object> result = commentService.getCommentsByPostId(postId);
-        
-        if ((Boolean) result.get("success")) {
-            return ResponseEntity.ok(result);
-        } else {
-            return ResponseEntity.badRequest().body(result);
+    public ResponseEntity<?> getCommentsByPostId(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            if (after != null) {
+                return ResponseEntity.ok(commentService.getCommentsByPostId(postId, PostCursor.decode(after), size));
+            }
+            return ResponseEntity.ok(commentService.getCommentsByPostId(postId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
         }
     }
     
@@ -51,12 +60,11 @@ public class CommentController {
     public ResponseEntity<Map<String, Object>> updateComment(
             @PathVariable Long commentId,
             @RequestBody Map<String, String> request,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal UserPrincipal principal) {
         
-        String userId = extractUserIdFromToken(token);
         String content = request.get("content");
         
-        Map<String, Object> result = commentService.updateComment(commentId, content, userId);
+        Map<String, Object> result = commentService.updateComment(commentId, content, principal.getId());
         
         if ((Boolean) result.get("success")) {
             return ResponseEntity.ok(result);
@@ -69,11 +77,9 @@ public class CommentController {
     @DeleteMapping("/{commentId}")
     public ResponseEntity<Map<String, Object>> deleteComment(
             @PathVariable Long commentId,
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal UserPrincipal principal) {
         
-        String userId = extractUserIdFromToken(token);
-        
-        Map<String, Object> result = commentService.deleteComment(commentId, userId);
+        Map<String, Object> result = commentService.deleteComment(commentId, principal.getId());
         
         if ((Boolean) result.get("success")) {
             return ResponseEntity.ok(result);
@@ -82,25 +88,19 @@ public class CommentController {
         }
     }
     
-    // 사용자가 작성한 댓글 목록 조회
+    // 사용자가 작성한 댓글 목록 조회 (최신순 커서 조회, 첫 페이지는 after 생략 또는 빈 값)
     @GetMapping("/user/{userId}")
-    public ResponseEntity<Map<String, Object>> getCommentsByUserId(@PathVariable String userId) {
-        Map<String, Object> result = commentService.getCommentsByUserId(userId);
-        
-        if ((Boolean) result.get("success")) {
-            return ResponseEntity.ok(result);
-        } else {
-            return ResponseEntity.badRequest().body(result);
-        }
-    }
-    
-    // JWT 토큰에서 사용자 ID 추출 (간단한 구현)
-    private String extractUserIdFromToken(String token) {
-        // 실제 구현에서는 JWT 토큰을 파싱하여 사용자 ID를 추출해야 합니다.
-        // 여기서는 간단히 "Bearer " 접두사를 제거하고 사용자 ID로 사용합니다.
-        if (token != null && token.startsWith("Bearer ")) {
-            return token.substring(7);
+    public ResponseEntity<?> getCommentsByUserId(
+            @PathVariable String userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(commentService.getCommentsByUserId(userId, PostCursor.decode(after), size));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
         }
-        throw new RuntimeException("유효하지 않은 토큰입니다.");
     }
-} 
\ No newline at end of file
+}
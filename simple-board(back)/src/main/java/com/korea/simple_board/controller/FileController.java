@@ -1,14 +1,37 @@
 package com.korea.simple_board.controller;
 
+import com.korea.simple_board.security.UserPrincipal;
 import com.korea.simple_board.service.FileService;
+import com.korea.simple_board.storage.StoredFile;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/files")
@@ -17,14 +40,31 @@ import java.util.Map;
 @CrossOrigin(origins = "http://localhost:3000")
 public class FileController {
     
+    // Tomcat sendfile 을 사용할 최소 크기 (DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    
+    // 브라우저에서 바로 열어도 스크립트가 실행되지 않는 형식만 inline 으로 제공 (SVG 는 스크립트를 포함할 수 있어 제외)
+    private static final Set<String> INLINE_CONTENT_TYPES = Set.of(
+            MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE,
+            "image/webp", "image/bmp", MediaType.APPLICATION_PDF_VALUE);
+    
     private final FileService fileService;
     
     @PostMapping("/upload")
-    public ResponseEntity<?> uploadFile(@RequestParam("file") MultipartFile file) {
+    public ResponseEntity<?> uploadFile(@RequestParam("file") MultipartFile file,
+                                        @AuthenticationPrincipal UserPrincipal principal) {
         try {
-            String fileUrl = fileService.uploadFile(file);
-            Map<String, String> response = new HashMap<>();
-            response.put("fileUrl", fileUrl);
+            StoredFile storedFile = fileService.uploadFile(file, principal.getId());
+            Map<String, Object> response = new HashMap<>();
+            response.put("fileUrl", storedFile.getFileUrl());
+            response.put("storedFileName", storedFile.getStoredFileName());
+            response.put("fileSize", storedFile.getFileSize());
+            response.put("contentType", storedFile.getContentType());
+            response.put("checksum", storedFile.getChecksum());
             response.put("message", "파일이 성공적으로 업로드되었습니다.");
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -35,9 +75,10 @@ public class FileController {
     }
     
     @DeleteMapping("/delete")
-    public ResponseEntity<?> deleteFile(@RequestParam String fileUrl) {
+    public ResponseEntity<?> deleteFile(@RequestParam String fileUrl,
+                                        @AuthenticationPrincipal UserPrincipal principal) {
         try {
-            fileService.deleteFile(fileUrl);
+            fileService.deleteFile(fileUrl, principal.getId());
             Map<String, String> response = new HashMap<>();
             response.put("message", "파일이 성공적으로 삭제되었습니다.");
             return ResponseEntity.ok(response);
@@ -47,4 +88,133 @@ public class FileController {
             return ResponseEntity.badRequest().body(error);
         }
     }
+    
+    /**
+     * 파일 다운로드
+     * ETag(체크섬)/Last-Modified 로 조건부 요청을 처리하고, Range 요청은 206 부분 응답으로 내려준다.
+     * 본문은 Tomcat sendfile 또는 FileChannel.transferTo 로 사용자 공간 복사 없이 전송한다.
+     */
+    @GetMapping("/{storedFileName}")
+    public void downloadFile(@PathVariable String storedFileName,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        Optional<StoredFile> found;
+        try {
+            found = fileService.getFileInfo(storedFileName);
+        } catch (IllegalArgumentException e) {
+            found = Optional.empty();
+        }
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        StoredFile storedFile = found.get();
+        String etag = storedFile.getChecksum() != null ? "\"" + storedFile.getChecksum() + "\"" : null;
+        
+        // 캐시된 메타데이터만으로 304 판단 (디스크 접근 없음)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, storedFile.getLastModified())) {
+            return;
+        }
+        
+        Resource resource = fileService.loadFile(storedFileName);
+        if (!resource.isFile()) {
+            // 원격 저장소(S3)는 저장소가 Range/ETag 를 직접 처리
+            response.sendRedirect(storedFile.getFileUrl());
+            return;
+        }
+        
+        Path path = resource.getFile().toPath();
+        long length = storedFile.getFileSize();
+        long start = 0;
+        long end = length - 1;
+        
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue());
+        // 허용 목록 밖의 형식(HTML, SVG 등)은 첨부파일로만 내려보내 같은 출처에서 실행되지 않도록 함
+        boolean inline = isInlineContentType(storedFile.getContentType());
+        ContentDisposition.Builder disposition = inline ? ContentDisposition.inline() : ContentDisposition.attachment();
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition
+                .filename(storedFile.getOriginalFileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setContentType(inline ? storedFile.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && isRangeApplicable(request, etag, storedFile.getLastModified())) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                // 다중 범위는 지원하지 않으므로 전체 본문으로 응답
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+        
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+        
+        if (count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+    
+    private boolean isInlineContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return INLINE_CONTENT_TYPES.contains(mediaType.getType() + "/" + mediaType.getSubtype());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * If-Range 가 현재 ETag/Last-Modified 와 다르면 Range 를 무시하고 전체 본문을 보낸다.
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.korea.simple_board.controller;
+
+import com.korea.simple_board.security.PasswordHashingBusyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비밀번호 해시 대기열이 가득 찬 경우 모든 컨트롤러에서 429 로 응답
+ */
+@RestControllerAdvice
+public class PasswordHashingBusyHandler {
+    
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<?> tooManyRequests(PasswordHashingBusyException e) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("success", false);
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+}
@@ -1,19 +1,33 @@
 package com.korea.simple_board.controller;
 
+import com.korea.simple_board.cache.PostListVersions;
+import com.korea.simple_board.dto.PostCursor;
 import com.korea.simple_board.dto.PostDto;
 import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.security.UserPrincipal;
 import com.korea.simple_board.service.PostService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/posts")
@@ -22,20 +36,52 @@ import java.util.Map;
 @CrossOrigin(origins = "http://localhost:3000")
 public class PostController {
     
+    // 목록 한 페이지의 최대 게시글 수 (범위를 벗어난 page/size 는 400 응답)
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final PostService postService;
+    private final PostListVersions postListVersions;
+    
+    // 비로그인 응답을 재검증 없이 재사용해도 되는 시간 (0 이면 매번 ETag 로 재검증)
+    @Value("${board.http-cache.max-age-seconds:0}")
+    private long maxAgeSeconds;
     
+    /**
+     * 게시글 목록
+     * 목록 버전으로 만든 ETag 가 If-None-Match 와 같으면 조회 없이 304 응답
+     * (버전은 조회 전에 읽으므로 조회 중 커밋된 변경은 다음 요청에서 반영됨)
+     */
     @GetMapping
     public ResponseEntity<?> getPosts(
             @RequestParam(required = false) Post.Category category,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String userId) {
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) String after,
+            WebRequest webRequest) {
+        Long userId = currentUserId(principal);
+        String eTag = weakETag("posts-" + (category != null ? category.name() : "ALL") + "-" + postListVersions.get(category), userId);
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified(eTag, userId);
+        }
+        
         try {
+            // after 파라미터가 있으면 커서 기반 조회 (첫 페이지는 빈 값)
+            if (after != null) {
+                log.info("게시글 목록 커서 조회 요청 - category: {}, after: {}, size: {}, userId: {}", category, after, size, userId);
+                return cacheable(eTag, userId).body(postService.getPosts(category, PostCursor.decode(after), size, userId));
+            }
+            
             log.info("게시글 목록 조회 요청 - category: {}, page: {}, size: {}, userId: {}", category, page, size, userId);
             Pageable pageable = PageRequest.of(page, size);
             Page<PostDto.PostListResponse> posts = postService.getPosts(category, pageable, userId);
             log.info("게시글 목록 조회 성공 - 총 {}개 게시글", posts.getTotalElements());
-            return ResponseEntity.ok(posts);
+            return cacheable(eTag, userId).body(posts);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
         } catch (Exception e) {
             log.error("게시글 목록 조회 중 오류 발생: ", e);
             Map<String, String> error = new HashMap<>();
@@ -47,10 +93,16 @@ public class PostController {
     @GetMapping("/search")
     public ResponseEntity<?> searchPosts(
             @RequestParam String keyword,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String userId) {
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) String after) {
+        Long userId = currentUserId(principal);
         try {
+            if (after != null) {
+                return ResponseEntity.ok(postService.searchPosts(keyword, PostCursor.decode(after), size, userId));
+            }
+            
             Pageable pageable = PageRequest.of(page, size);
             Page<PostDto.PostListResponse> posts = postService.searchPosts(keyword, pageable, userId);
             return ResponseEntity.ok(posts);
@@ -61,13 +113,29 @@ public class PostController {
         }
     }
     
-    @PostMapping("/{postId}")
+    /**
+     * 게시글 상세 (기존 클라이언트 호환을 위해 POST 도 허용, 조건부 요청은 GET 에서만 처리)
+     * 수정 시각과 댓글/스크랩 수로 만든 ETag 가 같으면 본문을 만들지 않고 304 응답
+     */
+    @RequestMapping(path = "/{postId}", method = {RequestMethod.GET, RequestMethod.POST})
     public ResponseEntity<?> getPost(
             @PathVariable Long postId,
-            @RequestParam(required = false) String userId) {
+            @AuthenticationPrincipal UserPrincipal principal,
+            HttpMethod method,
+            WebRequest webRequest) {
+        Long userId = currentUserId(principal);
         try {
-            PostDto.PostResponse post = postService.getPost(postId, userId);
-            return ResponseEntity.ok(post);
+            PostDto.PostVersion version = postService.getPostVersion(postId, userId);
+            if (method != HttpMethod.GET) {
+                return ResponseEntity.ok(postService.getPost(version));
+            }
+            
+            String eTag = weakETag("post-" + postId + "-" + postETagVersion(version), userId);
+            if (webRequest.checkNotModified(eTag)) {
+                postService.countView(postId);
+                return notModified(eTag, userId);
+            }
+            return cacheable(eTag, userId).body(postService.getPost(version));
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", e.getMessage());
@@ -78,9 +146,9 @@ public class PostController {
     @PostMapping
     public ResponseEntity<?> createPost(
             @RequestBody PostDto.CreateRequest request,
-            @RequestParam String userId) {
+            @AuthenticationPrincipal UserPrincipal principal) {
         try {
-            PostDto.PostResponse post = postService.createPost(userId, request);
+            PostDto.PostResponse post = postService.createPost(principal.getId(), request);
             return ResponseEntity.ok(post);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -93,9 +161,9 @@ public class PostController {
     public ResponseEntity<?> updatePost(
             @PathVariable Long postId,
             @RequestBody PostDto.UpdateRequest request,
-            @RequestParam String userId) {
+            @AuthenticationPrincipal UserPrincipal principal) {
         try {
-            PostDto.PostResponse post = postService.updatePost(postId, userId, request);
+            PostDto.PostResponse post = postService.updatePost(postId, principal.getId(), request);
             return ResponseEntity.ok(post);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -107,9 +175,9 @@ public class PostController {
     @DeleteMapping("/{postId}")
     public ResponseEntity<?> deletePost(
             @PathVariable Long postId,
-            @RequestParam String userId) {
+            @AuthenticationPrincipal UserPrincipal principal) {
         try {
-            postService.deletePost(postId, userId);
+            postService.deletePost(postId, principal.getId());
             Map<String, String> response = new HashMap<>();
             response.put("message", "게시글이 삭제되었습니다.");
             return ResponseEntity.ok(response);
@@ -123,9 +191,9 @@ public class PostController {
     @PostMapping("/{postId}/scrap")
     public ResponseEntity<?> toggleScrap(
             @PathVariable Long postId,
-            @RequestParam String userId) {
+            @AuthenticationPrincipal UserPrincipal principal) {
         try {
-            Map<String, Object> result = postService.toggleScrap(postId, userId);
+            Map<String, Object> result = postService.toggleScrap(postId, principal.getId());
             boolean isScrapped = (Boolean) result.get("isScrapped");
             result.put("message", isScrapped ? "스크랩되었습니다." : "스크랩이 해제되었습니다.");
             return ResponseEntity.ok(result);
@@ -138,12 +206,17 @@ public class PostController {
     
     @GetMapping("/scrapped")
     public ResponseEntity<?> getScrappedPosts(
-            @RequestParam String userId,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(required = false) String after) {
         try {
+            if (after != null) {
+                return ResponseEntity.ok(postService.getScrappedPosts(principal.getId(), PostCursor.decode(after), size));
+            }
+            
             Pageable pageable = PageRequest.of(page, size);
-            Page<PostDto.PostListResponse> posts = postService.getScrappedPosts(userId, pageable);
+            Page<PostDto.PostListResponse> posts = postService.getScrappedPosts(principal.getId(), pageable);
             return ResponseEntity.ok(posts);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -153,9 +226,9 @@ public class PostController {
     }
     
     @GetMapping("/scrapped/ids")
-    public ResponseEntity<?> getScrappedPostIds(@RequestParam String userId) {
+    public ResponseEntity<?> getScrappedPostIds(@AuthenticationPrincipal UserPrincipal principal) {
         try {
-            List<Long> scrapedPostIds = postService.getScrappedPostIds(userId);
+            List<Long> scrapedPostIds = postService.getScrappedPostIds(principal.getId());
             return ResponseEntity.ok(scrapedPostIds);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -167,14 +240,25 @@ public class PostController {
     @GetMapping("/user/{userId}")
     public ResponseEntity<?> getUserPosts(
             @PathVariable String userId,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(required = false) String after) {
         try {
+            if (after != null) {
+                log.info("사용자 글 목록 커서 조회 요청 - userId: {}, after: {}, size: {}", userId, after, size);
+                return ResponseEntity.ok(postService.getUserPosts(userId, PostCursor.decode(after), size));
+            }
+            
             log.info("사용자 글 목록 조회 요청 - userId: {}, page: {}, size: {}", userId, page, size);
             Pageable pageable = PageRequest.of(page, size);
             Page<PostDto.PostListResponse> posts = postService.getUserPosts(userId, pageable);
             log.info("사용자 글 목록 조회 성공 - 총 {}개 게시글", posts.getTotalElements());
             return ResponseEntity.ok(posts);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
         } catch (Exception e) {
             log.error("사용자 글 목록 조회 중 오류 발생: ", e);
             Map<String, String> error = new HashMap<>();
@@ -182,4 +266,50 @@ public class PostController {
             return ResponseEntity.internalServerError().body(error);
         }
     }
+    
+    // 조회수는 조회할 때마다 바뀌므로 제외 (304 응답에서는 이전 조회수가 그대로 보임)
+    private static String postETagVersion(PostDto.PostVersion version) {
+        long updatedAt = version.getUpdatedAt() != null
+                ? version.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0;
+        return Long.toString(updatedAt, 36) + "." + version.getCommentCount() + "." + version.getScrapCount()
+                + (version.isScrapped() ? ".s" : "");
+    }
+    
+    // 로그인 사용자의 응답은 스크랩 여부가 포함되므로 사용자 ID 를 ETag 에 포함
+    private static String weakETag(String value, Long userId) {
+        return "W/\"" + value + (userId != null ? "-u" + userId : "") + "\"";
+    }
+    
+    private ResponseEntity<?> notModified(String eTag, Long userId) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(cacheControl(userId))
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .build();
+    }
+    
+    private ResponseEntity.BodyBuilder cacheable(String eTag, Long userId) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl(userId))
+                .varyBy(HttpHeaders.AUTHORIZATION);
+    }
+    
+    /**
+     * 비로그인 응답은 공유 캐시(CDN, 프록시)에 저장 가능, 로그인 응답은 브라우저에만 저장하고 매번 재검증
+     */
+    private CacheControl cacheControl(Long userId) {
+        if (userId != null) {
+            return CacheControl.noCache().cachePrivate();
+        }
+        return maxAgeSeconds > 0
+                ? CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic()
+                : CacheControl.noCache().cachePublic();
+    }
+    
+    // 로그인하지 않은 요청은 null (스크랩 여부 계산 생략)
+    private Long currentUserId(UserPrincipal principal) {
+        return principal != null ? principal.getId() : null;
+    }
 } 
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.korea.simple_board.controller;
 
 import com.korea.simple_board.dto.UserDto;
+import com.korea.simple_board.security.PasswordHashingBusyException;
+import com.korea.simple_board.security.UserPrincipal;
 import com.korea.simple_board.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -20,10 +23,11 @@ public class UserController {
     private final UserService userService;
     
     @PostMapping("/info")
-    public ResponseEntity<?> getUserInfo(@RequestParam String userId) {
+    public ResponseEntity<?> getUserInfo(@AuthenticationPrincipal UserPrincipal principal) {
+        String userId = principal.getUserId();
         try {
             log.info("사용자 정보 조회 요청 - userId: {}", userId);
-            UserDto.UserInfoResponse userInfo = userService.getUserInfo(userId);
+            UserDto.UserInfoResponse userInfo = userService.getUserInfo(principal.getId());
             log.info("사용자 정보 조회 성공 - userId: {}", userId);
             return ResponseEntity.ok(userInfo);
         } catch (Exception e) {
@@ -36,11 +40,14 @@ public class UserController {
     
     @PutMapping("/update")
     public ResponseEntity<?> updateUserInfo(
-            @RequestParam String userId,
+            @AuthenticationPrincipal UserPrincipal principal,
             @RequestBody UserDto.UpdateRequest request) {
         try {
-            UserDto.UserInfoResponse userInfo = userService.updateUserInfo(userId, request);
+            UserDto.UserInfoResponse userInfo = userService.updateUserInfo(principal.getId(), request);
             return ResponseEntity.ok(userInfo);
+        } catch (PasswordHashingBusyException e) {
+            // 429 응답은 PasswordHashingBusyHandler 에서 처리
+            throw e;
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", e.getMessage());
@@ -49,9 +56,9 @@ public class UserController {
     }
     
     @DeleteMapping("/delete")
-    public ResponseEntity<?> deleteUser(@RequestParam String userId) {
+    public ResponseEntity<?> deleteUser(@AuthenticationPrincipal UserPrincipal principal) {
         try {
-            userService.deleteUser(userId);
+            userService.deleteUser(principal.getId());
             Map<String, String> response = new HashMap<>();
             response.put("message", "회원탈퇴가 완료되었습니다.");
             return ResponseEntity.ok(response);
@@ -82,8 +89,9 @@ public class UserController {
     
     @PostMapping("/check-password")
     public ResponseEntity<?> checkPassword(
-            @RequestParam String userId,
+            @AuthenticationPrincipal UserPrincipal principal,
             @RequestParam String password) {
+        String userId = principal.getUserId();
         try {
             log.info("비밀번호 확인 요청 - userId: {}", userId);
             boolean isMatch = userService.checkPassword(userId, password);
@@ -92,6 +100,9 @@ public class UserController {
             response.put("message", isMatch ? "비밀번호가 일치합니다." : "비밀번호가 일치하지 않습니다.");
             log.info("비밀번호 확인 완료 - userId: {}, isMatch: {}", userId, isMatch);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            // 429 응답은 PasswordHashingBusyHandler 에서 처리
+            throw e;
         } catch (Exception e) {
             log.error("비밀번호 확인 중 오류 발생 - userId: {}, error: {}", userId, e.getMessage(), e);
             Map<String, String> error = new HashMap<>();
@@ -112,6 +123,9 @@ public class UserController {
             response.put("message", "비밀번호가 성공적으로 재설정되었습니다.");
             log.info("비밀번호 재설정 성공 - userId: {}", userId);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            // 429 응답은 PasswordHashingBusyHandler 에서 처리
+            throw e;
         } catch (Exception e) {
             log.error("비밀번호 재설정 중 오류 발생 - userId: {}, email: {}, error: {}", userId, email, e.getMessage(), e);
             Map<String, String> error = new HashMap<>();
@@ -119,4 +133,4 @@ public class UserController {
             return ResponseEntity.badRequest().body(error);
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.korea.simple_board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class CommentDto {
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CommentResponse {
+        private Long id;
+        private String content;
+        private String authorUserId;
+        private String authorName;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+    
+    /**
+     * 게시글 댓글 목록 응답
+     * 커서 조회(after 파라미터)일 때만 hasNext/nextCursor 가 의미를 가지며, totalCount 는 이번 응답의 댓글 수
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ThreadResponse {
+        private boolean success;
+        private List<CommentResponse> comments;
+        private int totalCount;
+        private boolean hasNext;
+        private String nextCursor;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserCommentResponse {
+        private Long id;
+        private String snippet;
+        private Long postId;
+        private String postTitle;
+        private LocalDateTime createdAt;
+    }
+    
+    /**
+     * 사용자가 작성한 댓글 커서 응답 (전체 개수는 계산하지 않음)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserCommentsResponse {
+        private boolean success;
+        private List<UserCommentResponse> comments;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+    }
+}
@@ -0,0 +1,62 @@
+package com.korea.simple_board.dto;
+
+import com.korea.simple_board.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션 위치
+ * (created_at, id) 쌍을 클라이언트에게는 불투명한 문자열 토큰으로 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+    
+    // 첫 페이지 조회용 커서 (모든 행보다 뒤에 위치)
+    private static final PostCursor FIRST = new PostCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+    
+    private static final String SEPARATOR = "_";
+    
+    private final LocalDateTime createdAt;
+    private final Long id;
+    
+    public static PostCursor first() {
+        return FIRST;
+    }
+    
+    public static PostCursor of(Post post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+    
+    /**
+     * 토큰 해석 (빈 토큰은 첫 페이지)
+     */
+    public static PostCursor decode(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return FIRST;
+        }
+        
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            return new PostCursor(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+    
+    public boolean isFirst() {
+        return this == FIRST;
+    }
+    
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
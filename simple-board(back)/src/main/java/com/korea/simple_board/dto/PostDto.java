@@ -34,7 +34,7 @@ public class PostDto {
     }
     
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class PostResponse {
@@ -55,6 +55,23 @@ public class PostDto {
         private boolean isScrapped;
     }
     
+    /**
+     * 게시글 상세 조건부 요청 검증값 (조회수는 조회마다 바뀌므로 ETag 계산에서 제외)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PostVersion {
+        private Long postId;
+        private LocalDateTime updatedAt;
+        private int viewCount;
+        private int commentCount;
+        private int scrapCount;
+        @lombok.Getter
+        private boolean isScrapped;
+    }
+    
     @Data
     @Builder
     @NoArgsConstructor
@@ -71,4 +88,18 @@ public class PostDto {
         private LocalDateTime createdAt;
         private boolean isScrapped;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 커서 기반 목록 응답 (전체 개수는 계산하지 않음)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorResponse {
+        private List<PostListResponse> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+    }
+}
\ No newline at end of file
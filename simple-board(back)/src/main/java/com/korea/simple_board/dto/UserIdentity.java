@@ -0,0 +1,19 @@
+package com.korea.simple_board.dto;
+
+import com.korea.simple_board.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 아이디로 찾은 사용자의 식별 정보 (내부 ID, 이름, 권한)
+ * 비밀번호 등 민감 정보를 담지 않으므로 캐시에 보관할 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserIdentity {
+    
+    private final Long id;
+    private final String userId;
+    private final String name;
+    private final User.Role role;
+}
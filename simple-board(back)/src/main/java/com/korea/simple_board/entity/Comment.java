@@ -9,7 +9,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시글 댓글 목록 (작성일 순 정렬/커서 조회)
+        @Index(name = "idx_comments_post_created", columnList = "post_id, created_at, id"),
+        // 사용자가 작성한 댓글 목록 (최신순 커서 조회)
+        @Index(name = "idx_comments_user_created", columnList = "user_id, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
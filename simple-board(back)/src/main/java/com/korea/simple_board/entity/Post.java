@@ -5,13 +5,23 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 전체/카테고리별/작성자별 최신순 목록 (커서 조회)
+        @Index(name = "idx_posts_created", columnList = "created_at, id"),
+        @Index(name = "idx_posts_category_created", columnList = "category, created_at, id"),
+        @Index(name = "idx_posts_user_created", columnList = "user_id, created_at, id")
+})
+// 2차 캐시: 집계 컬럼(조회수/댓글 수/스크랩 수)은 JDBC 로 갱신한 뒤 해당 게시글 항목만 제거
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "posts")
 @Data
 @Builder
 @NoArgsConstructor
@@ -36,9 +46,16 @@ public class Post {
     @Column(nullable = false)
     private Category category;
     
-    @Column(name = "view_count", columnDefinition = "INT DEFAULT 0")
+    // 집계 컬럼은 원자적 UPDATE 쿼리로만 변경 (엔티티 수정 시 덮어쓰지 않도록 updatable = false)
+    @Column(name = "view_count", columnDefinition = "INT DEFAULT 0", updatable = false)
     private Integer viewCount;
     
+    @Column(name = "comment_count", columnDefinition = "INT DEFAULT 0", updatable = false)
+    private Integer commentCount;
+    
+    @Column(name = "scrap_count", columnDefinition = "INT DEFAULT 0", updatable = false)
+    private Integer scrapCount;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -62,6 +79,12 @@ public class Post {
         if (viewCount == null) {
             viewCount = 0;
         }
+        if (commentCount == null) {
+            commentCount = 0;
+        }
+        if (scrapCount == null) {
+            scrapCount = 0;
+        }
     }
     
     @PreUpdate
@@ -69,10 +92,6 @@ public class Post {
         updatedAt = LocalDateTime.now();
     }
     
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-    
     public enum Category {
         DEV("개발"), 
         GENERAL("일반"), 
@@ -5,11 +5,18 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "post_files")
+@Table(name = "post_files", indexes = {
+        @Index(name = "idx_post_files_post", columnList = "post_id")
+})
+// 2차 캐시: 게시글별 첨부파일 조회 결과(post-files-by-post 쿼리 캐시)가 가리키는 엔티티
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post-files")
 @Data
 @Builder
 @NoArgsConstructor
@@ -35,6 +42,10 @@ public class PostFile {
     @Column(nullable = false)
     private String contentType;
     
+    // 파일 내용의 MD5 체크섬 (hex)
+    @Column(length = 32)
+    private String checksum;
+    
     @Column(name = "post_id", nullable = false)
     private Long postId;
     
@@ -9,7 +9,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "scraps")
+@Table(name = "scraps",
+        uniqueConstraints = {
+                // 사용자당 게시글 하나에 스크랩 하나 (스크랩 여부 조회에도 사용)
+                @UniqueConstraint(name = "uk_scraps_post_user", columnNames = {"post_id", "user_id"})
+        },
+        indexes = {
+                // 사용자 스크랩 목록 (최신순 커서 조회)
+                @Index(name = "idx_scraps_user_created", columnList = "user_id, created_at, id")
+        })
 @Data
 @Builder
 @NoArgsConstructor
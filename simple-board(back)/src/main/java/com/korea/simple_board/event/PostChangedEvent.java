@@ -0,0 +1,47 @@
+package com.korea.simple_board.event;
+
+import com.korea.simple_board.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 작성/수정/삭제 및 댓글/스크랩 변경 이벤트
+ * 트랜잭션 커밋 이후 검색 색인, 캐시 등 부가 데이터를 갱신하는 데 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+    
+    private final Type type;
+    private final Long postId;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final Post.Category category;
+    
+    public static PostChangedEvent created(Post post) {
+        return new PostChangedEvent(Type.CREATED, post.getId(), post.getTitle(), post.getContent(), post.getCreatedAt(), post.getCategory());
+    }
+    
+    public static PostChangedEvent updated(Post post) {
+        return new PostChangedEvent(Type.UPDATED, post.getId(), post.getTitle(), post.getContent(), post.getCreatedAt(), post.getCategory());
+    }
+    
+    public static PostChangedEvent deleted(Post post) {
+        return new PostChangedEvent(Type.DELETED, post.getId(), null, null, post.getCreatedAt(), post.getCategory());
+    }
+    
+    public static PostChangedEvent commentChanged(Post post) {
+        return new PostChangedEvent(Type.COMMENT_CHANGED, post.getId(), null, null, null, post.getCategory());
+    }
+    
+    public static PostChangedEvent scrapChanged(Post post) {
+        return new PostChangedEvent(Type.SCRAP_CHANGED, post.getId(), null, null, null, post.getCategory());
+    }
+    
+    public enum Type {
+        CREATED, UPDATED, DELETED, COMMENT_CHANGED, SCRAP_CHANGED
+    }
+}
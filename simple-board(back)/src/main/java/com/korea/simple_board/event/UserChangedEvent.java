@@ -0,0 +1,15 @@
+package com.korea.simple_board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 정보 수정/탈퇴 및 비밀번호 재설정 이벤트
+ * 트랜잭션 커밋 이후 사용자 식별 정보 캐시를 비우는 데 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+    
+    private final String userId;
+}
@@ -0,0 +1,96 @@
+package com.korea.simple_board.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 컨트롤러/서비스 메서드 실행 시간과 리포지토리 조회 건수 지표
+ * 패키지 단위 포인트컷으로 적용하므로 새 메서드도 따로 손대지 않고 측정된다.
+ * (리포지토리 실행 시간은 Spring Boot 기본 지표 spring.data.repository.invocations 사용)
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+    
+    private static final String NONE = "none";
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("board.controller.invocations", "controller", joinPoint);
+    }
+    
+    @Around("within(com.korea.simple_board.service..*)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("board.service.invocations", "service", joinPoint);
+    }
+    
+    @AfterReturning(
+            pointcut = "execution(* com.korea.simple_board.repository..*.*(..)) && target(org.springframework.data.repository.Repository)",
+            returning = "result")
+    public void countRows(JoinPoint joinPoint, Object result) {
+        int rows = rowCount(result);
+        if (rows < 0) {
+            return;
+        }
+        DistributionSummary.builder("board.repository.rows")
+                .description("리포지토리 메서드가 반환한 행 수")
+                .tag("repository", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .register(meterRegistry)
+                .record(rows);
+    }
+    
+    private Object time(String name, String typeTag, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+            sample.stop(Timer.builder(name)
+                    .tag(typeTag, AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())
+                    .tag("method", signature.getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+    
+    /**
+     * 조회 결과의 행 수 (행 수로 볼 수 없는 반환값은 -1)
+     */
+    private static int rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result == null || result instanceof Number || result instanceof Boolean) {
+            return -1;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,82 @@
+package com.korea.simple_board.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청마다 실행된 SQL 수, 엔티티 로드 수, 지연 컬렉션 초기화 수를 URI 패턴별 분포 지표로 기록
+ * 같은 SQL 형태가 n-plus-one-threshold 번 이상 반복되면 N+1 의심으로 반복된 SQL 과 함께 경고 로그를 남긴다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class QueryStatsFilter extends OncePerRequestFilter {
+    
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final int LOGGED_STATEMENTS = 3;
+    
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+    
+    public QueryStatsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${board.query-stats.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.finish();
+            request.setAttribute(RequestQueryStats.ATTRIBUTE, stats);
+            record(request, stats);
+        }
+    }
+    
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+        summary("board.request.statements", "요청당 실행한 SQL 수", tags).record(stats.getStatements());
+        summary("board.request.entity.loads", "요청당 로드한 엔티티 수", tags).record(stats.getEntityLoads());
+        summary("board.request.collection.fetches", "요청당 초기화한 지연 컬렉션 수", tags).record(stats.getCollectionFetches());
+        
+        List<Map.Entry<String, Integer>> repeated = stats.getRepeatedStatements(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("board.request.n_plus_one", tags).increment();
+            StringBuilder sb = new StringBuilder();
+            repeated.stream()
+                    .limit(LOGGED_STATEMENTS)
+                    .forEach(entry -> sb.append("\n  ").append(entry.getValue()).append("x ").append(entry.getKey()));
+            log.warn("N+1 의심 - {} {}, 총 SQL {}개, 반복된 SQL:{}", request.getMethod(), uri, stats.getStatements(), sb);
+        }
+    }
+    
+    private DistributionSummary summary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
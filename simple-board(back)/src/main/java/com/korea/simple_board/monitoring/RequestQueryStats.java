@@ -0,0 +1,112 @@
+package com.korea.simple_board.monitoring;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 단위 JDBC/Hibernate 사용량 집계
+ * 요청을 처리하는 스레드에 카운터를 붙여 두고, JDBC 문장 준비/엔티티 로드/컬렉션 초기화 때마다 올린다.
+ * 문장은 SQL 형태(공백과 IN 목록 길이를 정규화한 SQL)별로도 세어 같은 쿼리가 반복되는 N+1 을 찾는다.
+ * 요청 밖(스케줄러, 발송 스레드 등)에서 일어난 작업은 집계하지 않는다.
+ */
+public final class RequestQueryStats {
+    
+    /** 요청 처리가 끝난 뒤 집계 결과를 담아두는 요청 속성 (테스트에서 문장 수 예산 확인에 사용) */
+    public static final String ATTRIBUTE = RequestQueryStats.class.getName();
+    
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    
+    private final Map<String, Integer> statementsBySql = new LinkedHashMap<>();
+    private int statements;
+    private int entityLoads;
+    private int collectionFetches;
+    
+    private RequestQueryStats() {
+    }
+    
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+    
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+    
+    public static void finish() {
+        CURRENT.remove();
+    }
+    
+    static void statementPrepared(String sql) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.statementsBySql.merge(normalize(sql), 1, Integer::sum);
+        }
+    }
+    
+    static void entityLoaded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+    
+    static void collectionFetched() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.collectionFetches++;
+        }
+    }
+    
+    public int getStatements() {
+        return statements;
+    }
+    
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+    
+    public int getCollectionFetches() {
+        return collectionFetches;
+    }
+    
+    /**
+     * minCount 번 이상 반복된 SQL 형태 (많이 반복된 순)
+     */
+    public List<Map.Entry<String, Integer>> getRepeatedStatements(int minCount) {
+        List<Map.Entry<String, Integer>> repeated = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : statementsBySql.entrySet()) {
+            if (entry.getValue() >= minCount) {
+                repeated.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        repeated.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        return repeated;
+    }
+    
+    /**
+     * 실행한 SQL 형태별 횟수 요약 (로그와 테스트 실패 메시지용)
+     */
+    public String describe() {
+        StringBuilder sb = new StringBuilder()
+                .append("statements=").append(statements)
+                .append(", entityLoads=").append(entityLoads)
+                .append(", collectionFetches=").append(collectionFetches);
+        for (Map.Entry<String, Integer> entry : getRepeatedStatements(1)) {
+            sb.append("\n  ").append(entry.getValue()).append("x ").append(entry.getKey());
+        }
+        return sb.toString();
+    }
+    
+    static String normalize(String sql) {
+        String singleLine = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        return IN_LIST.matcher(singleLine).replaceAll("(?...)");
+    }
+}
@@ -0,0 +1,49 @@
+package com.korea.simple_board.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * JDBC 문장 수 집계용 DataSource
+ * 커넥션을 감싸 prepareStatement/prepareCall 호출마다 SQL 을 RequestQueryStats 에 기록한다.
+ * Hibernate 뿐 아니라 JdbcTemplate 등으로 실행한 문장도 함께 집계된다.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+    
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+    
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (("prepareStatement".equals(name) || "prepareCall".equals(name))
+                            && args != null && args[0] instanceof String sql) {
+                        RequestQueryStats.statementPrepared(sql);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,97 @@
+package com.korea.simple_board.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 고정(pinning) 감시
+ * 가상 스레드 모드에서만 동작하며, JFR 의 jdk.VirtualThreadPinned 이벤트를 구독해
+ * 임계 시간 이상 캐리어 스레드를 붙잡은 지점을 경고 로그와 board.virtual-threads.pinned 지표(frame 태그)로 남긴다.
+ * (synchronized 블록 안에서 JDBC/SMTP I/O 를 기다리는 코드가 새로 생기면 여기서 드러난다)
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.korea.simple_board.";
+    
+    private final MeterRegistry meterRegistry;
+    private final long thresholdMs;
+    
+    private RecordingStream recordingStream;
+    
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${board.virtual-threads.pinning-threshold-ms:20}") long thresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdMs = thresholdMs;
+    }
+    
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 고정 감시 시작 - 임계 시간: {}ms", thresholdMs);
+    }
+    
+    private void onPinned(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        String frame = pinnedFrame(event.getStackTrace());
+        
+        // frame 은 코드 위치이므로 태그 값의 종류가 한정됨
+        Timer.builder("board.virtual-threads.pinned")
+                .description("임계 시간 이상 캐리어 스레드에 고정된 시간")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(event.getDuration());
+        log.warn("가상 스레드 고정 감지 - {}ms, 위치: {}", nanos / 1_000_000, frame);
+    }
+    
+    /**
+     * 고정 위치로 애플리케이션 코드 중 가장 안쪽 프레임을 사용 (없으면 최상단 프레임)
+     */
+    private String pinnedFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+                return format(frame);
+            }
+        }
+        return format(frames.get(0));
+    }
+    
+    private String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
@@ -1,21 +1,51 @@
 package com.korea.simple_board.repository;
 
 import com.korea.simple_board.entity.Comment;
+import com.korea.simple_board.repository.projection.CommentThreadProjection;
+import com.korea.simple_board.repository.projection.UserCommentProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     
-    // 게시글 ID로 댓글 목록 조회 (작성일 오름차순)
-    List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
+    String THREAD_ITEM_SELECT = "SELECT c.id AS id, c.content AS content, a.userId AS authorUserId, a.name AS authorName, " +
+                                "c.createdAt AS createdAt, c.updatedAt AS updatedAt ";
     
-    // 사용자 ID로 댓글 목록 조회
-    List<Comment> findByAuthorUserIdOrderByCreatedAtDesc(String userId);
+    int SNIPPET_LENGTH = 100;
+    
+    // 게시글의 댓글 목록 조회 (작성자 조인, 작성일 오름차순)
+    @Query(THREAD_ITEM_SELECT + "FROM Comment c JOIN c.author a WHERE c.post.id = :postId " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentThreadProjection> findThreadItems(@Param("postId") Long postId);
+    
+    @Query(THREAD_ITEM_SELECT + "FROM Comment c JOIN c.author a WHERE c.post.id = :postId " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentThreadProjection> findThreadItems(@Param("postId") Long postId, Pageable pageable);
+    
+    // 커서 기반 댓글 목록 조회 (커서 이후의 댓글)
+    @Query(THREAD_ITEM_SELECT + "FROM Comment c JOIN c.author a WHERE c.post.id = :postId " +
+           "AND c.createdAt >= :createdAt AND (c.createdAt > :createdAt OR c.id > :id) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentThreadProjection> findThreadItemsAfter(@Param("postId") Long postId,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id, Pageable pageable);
+    
+    // 사용자가 작성한 댓글 커서 조회 (본문 앞부분과 게시글 제목만, 작성일 내림차순)
+    @Query("SELECT c.id AS id, SUBSTRING(c.content, 1, " + SNIPPET_LENGTH + ") AS snippet, p.id AS postId, " +
+           "p.title AS postTitle, c.createdAt AS createdAt " +
+           "FROM Comment c JOIN c.post p WHERE c.author.id = :authorId " +
+           "AND c.createdAt <= :createdAt AND (c.createdAt < :createdAt OR c.id < :id) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<UserCommentProjection> findUserCommentsAfter(@Param("authorId") Long authorId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id, Pageable pageable);
     
     // 게시글의 댓글 수 조회
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId")
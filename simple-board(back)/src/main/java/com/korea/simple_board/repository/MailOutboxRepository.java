@@ -0,0 +1,57 @@
+package com.korea.simple_board.repository;
+
+import com.korea.simple_board.entity.MailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+    
+    List<MailOutbox> findByClaimToken(String claimToken);
+    
+    // 발송할 차례인 메일 (대기 중이거나 선점이 만료된 메일)
+    @Query("SELECT m.id FROM MailOutbox m WHERE m.status IN :statuses AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt")
+    List<Long> findDueIds(@Param("statuses") Collection<MailOutbox.Status> statuses,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+    
+    // 다른 디스패처가 먼저 가져간 메일은 조건에서 제외되므로 한 번에 하나의 디스패처만 선점한다
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :sending, m.claimToken = :claimToken, m.nextAttemptAt = :leaseUntil, " +
+           "m.attempts = m.attempts + 1 " +
+           "WHERE m.id IN :ids AND m.status IN :statuses AND m.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("statuses") Collection<MailOutbox.Status> statuses,
+              @Param("sending") MailOutbox.Status sending,
+              @Param("claimToken") String claimToken,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+    
+    // 발송이 끝난 메일은 본문(임시 비밀번호 등)을 바로 지움
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :sent, m.sentAt = :sentAt, m.claimToken = null, m.lastError = null, m.body = '' " +
+           "WHERE m.id IN :ids AND m.claimToken = :claimToken")
+    int markSent(@Param("ids") Collection<Long> ids,
+                 @Param("claimToken") String claimToken,
+                 @Param("sent") MailOutbox.Status sent,
+                 @Param("sentAt") LocalDateTime sentAt);
+    
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.status = :status AND m.sentAt < :before")
+    int deleteSentBefore(@Param("status") MailOutbox.Status status, @Param("before") LocalDateTime before);
+    
+    // 재시도를 포기한 메일은 발송 시각이 없으므로 생성 시각 기준으로 삭제
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.status = :status AND m.createdAt < :before")
+    int deleteCreatedBefore(@Param("status") MailOutbox.Status status, @Param("before") LocalDateTime before);
+    
+    long countByStatus(MailOutbox.Status status);
+}
@@ -1,7 +1,10 @@
 package com.korea.simple_board.repository;
 
 import com.korea.simple_board.entity.PostFile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,7 +12,16 @@ import java.util.List;
 @Repository
 public interface PostFileRepository extends JpaRepository<PostFile, Long> {
     
+    // 게시글별 첨부파일 목록은 쿼리 캐시에 보관 (post_files 테이블이 바뀌면 Hibernate 가 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "post-files-by-post")
+    })
     List<PostFile> findByPostId(Long postId);
     
+    List<PostFile> findByStoredFileName(String storedFileName);
+    
+    boolean existsByStoredFileName(String storedFileName);
+    
     void deleteByPostId(Long postId);
 } 
\ No newline at end of file
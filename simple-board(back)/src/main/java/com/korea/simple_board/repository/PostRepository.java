@@ -2,25 +2,107 @@ package com.korea.simple_board.repository;
 
 import com.korea.simple_board.entity.Post;
 import com.korea.simple_board.entity.Post.Category;
-import com.korea.simple_board.entity.User;
+import com.korea.simple_board.repository.projection.PostListProjection;
+import com.korea.simple_board.repository.projection.PostVersionProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
     
-    Page<Post> findByCategory(Category category, Pageable pageable);
+    // 목록 조회용 프로젝션 SELECT 절
+    String LIST_ITEM_SELECT = "SELECT p.id AS id, p.title AS title, a.name AS authorName, p.category AS category, " +
+                              "p.viewCount AS viewCount, p.commentCount AS commentCount, p.scrapCount AS scrapCount, " +
+                              "p.createdAt AS createdAt ";
     
     Page<Post> findByTitleContainingOrContentContaining(String title, String content, Pageable pageable);
     
+    // 증감 직후의 스크랩 수 (다른 사용자의 동시 스크랩까지 반영된 값)
+    @Query("SELECT p.scrapCount FROM Post p WHERE p.id = :postId")
+    Integer findScrapCountById(@Param("postId") Long postId);
+    
+    @Query("SELECT p.id AS id, p.viewCount AS viewCount, p.commentCount AS commentCount, p.scrapCount AS scrapCount, p.updatedAt AS updatedAt " +
+           "FROM Post p WHERE p.id = :postId")
+    Optional<PostVersionProjection> findVersionById(@Param("postId") Long postId);
+    
+    @Query("SELECT MAX(p.id) FROM Post p")
+    Long findMaxId();
+    
+    // 댓글/스크랩 수를 실제 데이터 기준으로 재계산 (ID 범위 단위)
+    // 네이티브 UPDATE 는 대상 테이블을 지정하지 않으면 2차 캐시 전체를 비우므로 posts 영역만 비우도록 지정
+    @Transactional
     @Modifying
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
-    void incrementViewCount(@Param("postId") Long postId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts"))
+    @Query(value = "UPDATE posts p SET " +
+                   "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id), " +
+                   "scrap_count = (SELECT COUNT(*) FROM scraps s WHERE s.post_id = p.id) " +
+                   "WHERE p.id BETWEEN :fromId AND :toId " +
+                   "AND (comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id) " +
+                   "OR scrap_count <> (SELECT COUNT(*) FROM scraps s WHERE s.post_id = p.id) " +
+                   "OR comment_count IS NULL OR scrap_count IS NULL)",
+           nativeQuery = true)
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+    
+    // 커서 기반 조회: (createdAt, id) 기준 내림차순으로 커서 이후의 게시글 조회
+    // (createdAt <= 커서 조건을 AND 로 두어 (.., created_at, id) 인덱스 범위 검색이 되도록 함)
+    @Query("SELECT p FROM Post p WHERE p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findAllAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+    
+    @Query("SELECT p FROM Post p WHERE (p.title LIKE CONCAT('%', :keyword, '%') OR p.content LIKE CONCAT('%', :keyword, '%')) " +
+           "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> searchAfter(@Param("keyword") String keyword, @Param("createdAt") LocalDateTime createdAt,
+                           @Param("id") Long id, Pageable pageable);
+    
+    // 목록 조회 (프로젝션)
+    @Query(value = LIST_ITEM_SELECT + "FROM Post p JOIN p.author a",
+           countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostListProjection> findListItems(Pageable pageable);
+    
+    @Query(value = LIST_ITEM_SELECT + "FROM Post p JOIN p.author a WHERE p.category = :category",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category = :category")
+    Page<PostListProjection> findListItemsByCategory(@Param("category") Category category, Pageable pageable);
+    
+    @Query(value = LIST_ITEM_SELECT + "FROM Post p JOIN p.author a WHERE a.id = :authorId",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.author.id = :authorId")
+    Page<PostListProjection> findListItemsByAuthor(@Param("authorId") Long authorId, Pageable pageable);
+    
+    @Query(LIST_ITEM_SELECT + "FROM Post p JOIN p.author a WHERE p.id IN :postIds")
+    List<PostListProjection> findListItemsByIdIn(@Param("postIds") Collection<Long> postIds);
+    
+    // 커서 기반 목록 조회 (프로젝션)
+    @Query(LIST_ITEM_SELECT + "FROM Post p JOIN p.author a " +
+           "WHERE p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostListProjection> findListItemsAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                Pageable pageable);
+    
+    @Query(LIST_ITEM_SELECT + "FROM Post p JOIN p.author a WHERE p.category = :category " +
+           "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostListProjection> findListItemsByCategoryAfter(@Param("category") Category category,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id, Pageable pageable);
     
-    Page<Post> findByAuthor(User author, Pageable pageable);
-} 
\ No newline at end of file
+    @Query(LIST_ITEM_SELECT + "FROM Post p JOIN p.author a WHERE a.id = :authorId " +
+           "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostListProjection> findListItemsByAuthorAfter(@Param("authorId") Long authorId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id, Pageable pageable);
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.korea.simple_board.repository;
+
+import java.util.Map;
+
+/**
+ * Spring Data 메서드로 표현하기 어려운 게시글 쿼리
+ */
+public interface PostRepositoryCustom {
+    
+    /**
+     * 게시글별 조회수 증가분을 하나의 배치 UPDATE 로 반영 (한 트랜잭션, 2차 캐시 제거는 커밋 후)
+     */
+    void incrementViewCounts(Map<Long, Long> deltas);
+    
+    /**
+     * 댓글 수 증감 (행 단위 원자적 UPDATE, 2차 캐시는 해당 게시글만 제거)
+     */
+    void addCommentCount(Long postId, int delta);
+    
+    /**
+     * 스크랩 수 증감 (행 단위 원자적 UPDATE, 2차 캐시는 해당 게시글만 제거)
+     */
+    void addScrapCount(Long postId, int delta);
+}
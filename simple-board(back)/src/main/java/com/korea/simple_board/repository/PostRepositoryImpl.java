@@ -0,0 +1,70 @@
+package com.korea.simple_board.repository;
+
+import com.korea.simple_board.entity.Post;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Slf4j
+public class PostRepositoryImpl implements PostRepositoryCustom {
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    
+    @Override
+    @Transactional
+    public void incrementViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        
+        List<Object[]> batchArgs = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .collect(Collectors.toList());
+        
+        jdbcTemplate.batchUpdate("UPDATE posts SET view_count = view_count + ? WHERE id = ?", batchArgs);
+        evictAfterCommit(deltas.keySet());
+    }
+    
+    // JPQL 벌크 UPDATE 는 posts 2차 캐시 영역 전체를 비우므로 JDBC 로 갱신하고 해당 게시글만 제거
+    @Override
+    @Transactional
+    public void addCommentCount(Long postId, int delta) {
+        jdbcTemplate.update("UPDATE posts SET comment_count = comment_count + ? WHERE id = ?", delta, postId);
+        evictAfterCommit(List.of(postId));
+    }
+    
+    @Override
+    @Transactional
+    public void addScrapCount(Long postId, int delta) {
+        jdbcTemplate.update("UPDATE posts SET scrap_count = scrap_count + ? WHERE id = ?", delta, postId);
+        evictAfterCommit(List.of(postId));
+    }
+    
+    /**
+     * JDBC 로 직접 갱신해 Hibernate 가 모르는 변경 - 커밋 후 2차 캐시의 해당 게시글만 제거
+     * (제거 실패는 이미 커밋된 반영에 영향을 주지 않도록 기록만 함)
+     */
+    private void evictAfterCommit(Collection<Long> postIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    postIds.forEach(postId -> entityManagerFactory.getCache().evict(Post.class, postId));
+                } catch (Exception e) {
+                    log.warn("게시글 집계 갱신 후 2차 캐시 제거 실패", e);
+                }
+            }
+        });
+    }
+}
@@ -1,22 +1,50 @@
 package com.korea.simple_board.repository;
 
 import com.korea.simple_board.entity.Scrap;
-import com.korea.simple_board.entity.User;
+import com.korea.simple_board.repository.projection.ScrappedPostProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ScrapRepository extends JpaRepository<Scrap, Long> {
     
-    Page<Scrap> findByUser(User user, Pageable pageable);
+    // 스크랩 목록 조회용 프로젝션 (게시글 목록 컬럼 + 스크랩 ID/시각)
+    String SCRAPPED_ITEM_SELECT = PostRepository.LIST_ITEM_SELECT + ", s.id AS scrapId, s.createdAt AS scrappedAt " +
+                                  "FROM Scrap s JOIN s.post p JOIN p.author a WHERE s.user.id = :userId ";
     
-    Optional<Scrap> findByPostIdAndUserId(Long postId, Long userId);
+    @Query(value = SCRAPPED_ITEM_SELECT,
+           countQuery = "SELECT COUNT(s) FROM Scrap s WHERE s.user.id = :userId")
+    Page<ScrappedPostProjection> findScrappedPosts(@Param("userId") Long userId, Pageable pageable);
     
-    boolean existsByPostIdAndUserId(Long postId, Long userId);
+    @Query("SELECT s.post.id FROM Scrap s WHERE s.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+    
+    // 파생 쿼리는 post/user 를 조인하므로 FK 컬럼으로 직접 조회 (uk_scraps_post_user 인덱스 사용)
+    @Query("SELECT s FROM Scrap s WHERE s.post.id = :postId AND s.user.id = :userId")
+    Optional<Scrap> findByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+    
+    @Query("SELECT COUNT(s) > 0 FROM Scrap s WHERE s.post.id = :postId AND s.user.id = :userId")
+    boolean existsByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
     
     int countByPostId(Long postId);
-} 
\ No newline at end of file
+    
+    // 주어진 게시글 중 사용자가 스크랩한 게시글 ID 조회
+    @Query("SELECT s.post.id FROM Scrap s WHERE s.user.id = :userId AND s.post.id IN :postIds")
+    List<Long> findScrappedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+    
+    // 커서 기반 조회: 스크랩의 (createdAt, id) 기준 내림차순
+    @Query(SCRAPPED_ITEM_SELECT +
+           "AND s.createdAt <= :createdAt AND (s.createdAt < :createdAt OR s.id < :id) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<ScrappedPostProjection> findScrappedPostsAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id, Pageable pageable);
+}
@@ -1,17 +1,33 @@
 package com.korea.simple_board.repository;
 
+import com.korea.simple_board.dto.UserIdentity;
 import com.korea.simple_board.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // 아이디 → 사용자 ID 는 쿼리 캐시, 사용자 엔티티는 users 영역에서 조회 (users 테이블이 바뀌면 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "users-by-user-id")
+    })
     Optional<User> findByUserId(String userId);
+    
     boolean existsByUserId(String userId);
     boolean existsByEmail(String email);
     Optional<User> findByEmail(String email);
     Optional<User> findByEmailAndName(String email, String name);
     Optional<User> findByUserIdAndEmail(String userId, String email);
+    
+    // 식별 정보만 조회 (UserIdentityCache 에서 사용)
+    @Query("SELECT new com.korea.simple_board.dto.UserIdentity(u.id, u.userId, u.name, u.role) FROM User u WHERE u.userId = :userId")
+    Optional<UserIdentity> findIdentityByUserId(@Param("userId") String userId);
 } 
\ No newline at end of file
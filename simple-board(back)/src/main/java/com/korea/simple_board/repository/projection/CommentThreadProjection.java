@@ -0,0 +1,22 @@
+package com.korea.simple_board.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 댓글 목록 행 프로젝션
+ * 댓글과 작성자 아이디/이름을 작성자 조인 한 번으로 조회한다.
+ */
+public interface CommentThreadProjection {
+    
+    Long getId();
+    
+    String getContent();
+    
+    String getAuthorUserId();
+    
+    String getAuthorName();
+    
+    LocalDateTime getCreatedAt();
+    
+    LocalDateTime getUpdatedAt();
+}
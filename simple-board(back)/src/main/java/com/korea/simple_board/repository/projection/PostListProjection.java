@@ -0,0 +1,28 @@
+package com.korea.simple_board.repository.projection;
+
+import com.korea.simple_board.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 행 프로젝션
+ * 목록 화면에 필요한 컬럼만 작성자 조인 한 번으로 조회한다. (본문 TEXT 컬럼 제외)
+ */
+public interface PostListProjection {
+    
+    Long getId();
+    
+    String getTitle();
+    
+    String getAuthorName();
+    
+    Post.Category getCategory();
+    
+    Integer getViewCount();
+    
+    Integer getCommentCount();
+    
+    Integer getScrapCount();
+    
+    LocalDateTime getCreatedAt();
+}
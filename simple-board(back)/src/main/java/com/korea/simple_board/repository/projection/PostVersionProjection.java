@@ -0,0 +1,20 @@
+package com.korea.simple_board.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 조건부 요청 검증용 프로젝션
+ * 응답을 만들기 전에 본문 없이 수정 시각과 집계 컬럼만 조회한다.
+ */
+public interface PostVersionProjection {
+    
+    Long getId();
+    
+    Integer getViewCount();
+    
+    Integer getCommentCount();
+    
+    Integer getScrapCount();
+    
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,13 @@
+package com.korea.simple_board.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스크랩 목록 행 프로젝션 (커서 계산용 스크랩 ID/시각 포함)
+ */
+public interface ScrappedPostProjection extends PostListProjection {
+    
+    Long getScrapId();
+    
+    LocalDateTime getScrappedAt();
+}
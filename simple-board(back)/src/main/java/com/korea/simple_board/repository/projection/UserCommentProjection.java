@@ -0,0 +1,20 @@
+package com.korea.simple_board.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자가 작성한 댓글 목록 행 프로젝션
+ * 댓글 본문 앞부분과 게시글 제목만 게시글 조인 한 번으로 조회한다.
+ */
+public interface UserCommentProjection {
+    
+    Long getId();
+    
+    String getSnippet();
+    
+    Long getPostId();
+    
+    String getPostTitle();
+    
+    LocalDateTime getCreatedAt();
+}
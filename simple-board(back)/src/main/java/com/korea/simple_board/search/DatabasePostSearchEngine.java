@@ -0,0 +1,62 @@
+package com.korea.simple_board.search;
+
+import com.korea.simple_board.dto.PostCursor;
+import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * DB LIKE 검색 엔진
+ * 별도 색인 없이 게시글 테이블을 직접 검색한다. (board.search.engine=database)
+ */
+@Component
+@ConditionalOnProperty(name = "board.search.engine", havingValue = "database")
+@RequiredArgsConstructor
+public class DatabasePostSearchEngine implements PostSearchEngine {
+    
+    private final PostRepository postRepository;
+    
+    @Override
+    public void index(Long postId, String title, String content, LocalDateTime createdAt) {
+        // DB 를 직접 검색하므로 색인이 필요 없음
+    }
+    
+    @Override
+    public void remove(Long postId) {
+        // DB 를 직접 검색하므로 색인이 필요 없음
+    }
+    
+    @Override
+    public void clear() {
+        // DB 를 직접 검색하므로 색인이 필요 없음
+    }
+    
+    @Override
+    public void rebuild(Consumer<PostSearchEngine> loader) {
+        // DB 를 직접 검색하므로 색인이 필요 없음
+    }
+    
+    @Override
+    public Page<Long> search(String keyword, Pageable pageable) {
+        return postRepository.findByTitleContainingOrContentContaining(keyword, keyword, pageable)
+                .map(Post::getId);
+    }
+    
+    @Override
+    public List<Long> searchAfter(String keyword, PostCursor cursor, int limit) {
+        return postRepository.searchAfter(keyword, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, limit))
+                .stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
+    }
+}
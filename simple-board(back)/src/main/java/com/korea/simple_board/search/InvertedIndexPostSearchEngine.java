@@ -0,0 +1,251 @@
+package com.korea.simple_board.search;
+
+import com.korea.simple_board.dto.PostCursor;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 내 역색인 검색 엔진 (기본값)
+ * 바이그램 단위 역색인으로 검색어의 모든 토큰을 포함한 게시글을 찾고 TF-IDF 점수로 정렬한다.
+ * 제목에 포함된 토큰은 본문보다 높은 가중치를 가진다.
+ * 한 글자 검색어는 색인 시 함께 넣어 둔 글자 단위 토큰으로 찾는다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.search.engine", havingValue = "index", matchIfMissing = true)
+public class InvertedIndexPostSearchEngine implements PostSearchEngine {
+    
+    private static final int TITLE_WEIGHT = 3;
+    
+    // 토큰 -> (게시글 ID -> 가중 출현 빈도)
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    
+    // 게시글 ID -> 색인된 토큰 (색인 제거용)
+    private Map<Long, IndexedPost> documents = new HashMap<>();
+    
+    // 재구성 중에 들어온 변경 (재구성 중이 아니면 null)
+    private List<Consumer<PostSearchEngine>> pendingChanges;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    @Override
+    public void index(Long postId, String title, String content, LocalDateTime createdAt) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : NGramTokenizer.tokenizeForIndex(title)) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : NGramTokenizer.tokenizeForIndex(content)) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(postId, frequency));
+            documents.put(postId, new IndexedPost(termFrequencies.keySet(), createdAt));
+            if (pendingChanges != null) {
+                pendingChanges.add(engine -> engine.index(postId, title, content, createdAt));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+            if (pendingChanges != null) {
+                pendingChanges.add(engine -> engine.remove(postId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            if (pendingChanges != null) {
+                pendingChanges.add(PostSearchEngine::clear);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void rebuild(Consumer<PostSearchEngine> loader) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                throw new IllegalStateException("검색 색인을 이미 재구성하고 있습니다.");
+            }
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        // 새 색인은 잠금 밖에서 채우므로 그동안의 검색과 변경은 기존 색인에서 처리됨
+        InvertedIndexPostSearchEngine freshIndex = new InvertedIndexPostSearchEngine();
+        try {
+            loader.accept(freshIndex);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(freshIndex));
+            postings = freshIndex.postings;
+            documents = freshIndex.documents;
+            pendingChanges = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Page<Long> search(String keyword, Pageable pageable) {
+        List<Long> rankedIds;
+        
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = score(keyword);
+            rankedIds = scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        
+        return new PageImpl<>(new ArrayList<>(rankedIds.subList(from, to)), pageable, rankedIds.size());
+    }
+    
+    @Override
+    public List<Long> searchAfter(String keyword, PostCursor cursor, int limit) {
+        Comparator<Map.Entry<Long, LocalDateTime>> latestFirst = Map.Entry.<Long, LocalDateTime>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, LocalDateTime>comparingByKey().reversed());
+        
+        lock.readLock().lock();
+        try {
+            Map<Long, LocalDateTime> matches = new HashMap<>();
+            for (Long postId : score(keyword).keySet()) {
+                LocalDateTime createdAt = documents.get(postId).createdAt;
+                if (isBefore(createdAt, postId, cursor)) {
+                    matches.put(postId, createdAt);
+                }
+            }
+            
+            return matches.entrySet().stream()
+                    .sorted(latestFirst)
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 검색어의 모든 토큰을 포함하는 게시글과 점수 계산 (읽기 잠금 상태에서 호출)
+     */
+    private Map<Long, Double> score(String keyword) {
+        Set<String> queryTerms = new LinkedHashSet<>(NGramTokenizer.tokenize(keyword));
+        if (queryTerms.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        
+        List<Map<Long, Integer>> termPostings = new ArrayList<>();
+        for (String term : queryTerms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null || posting.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            termPostings.add(posting);
+        }
+        
+        // 가장 짧은 포스팅 목록부터 교집합 계산
+        termPostings.sort(Comparator.comparingInt(Map::size));
+        Set<Long> candidates = new HashSet<>(termPostings.get(0).keySet());
+        for (int i = 1; i < termPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(termPostings.get(i).keySet());
+        }
+        
+        int documentCount = documents.size();
+        Map<Long, Double> scores = new HashMap<>();
+        for (Map<Long, Integer> posting : termPostings) {
+            double idf = Math.log(1.0 + (double) documentCount / posting.size());
+            for (Long postId : candidates) {
+                double tf = 1.0 + Math.log(posting.get(postId));
+                scores.merge(postId, tf * idf, Double::sum);
+            }
+        }
+        return scores;
+    }
+    
+    private boolean isBefore(LocalDateTime createdAt, Long postId, PostCursor cursor) {
+        if (createdAt == null) {
+            return true;
+        }
+        int compared = createdAt.compareTo(cursor.getCreatedAt());
+        return compared < 0 || (compared == 0 && postId < cursor.getId());
+    }
+    
+    private void removeDocument(Long postId) {
+        IndexedPost removed = documents.remove(postId);
+        if (removed == null) {
+            return;
+        }
+        
+        for (String term : removed.terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+    
+    @AllArgsConstructor
+    private static class IndexedPost {
+        private final Set<String> terms;
+        private final LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,75 @@
+package com.korea.simple_board.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 검색용 바이그램(2-gram) 토크나이저
+ * 한글은 형태소 분석 없이도 부분 일치 검색이 가능하도록 단어를 두 글자 단위로 자른다.
+ * 예) "게시판검색" -> [게시, 시판, 판검, 검색]
+ * 색인할 때는 한 글자 검색어도 역색인으로 찾을 수 있도록 글자 단위(유니그램) 토큰을 함께 만든다.
+ */
+public final class NGramTokenizer {
+    
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern HTML_ENTITY = Pattern.compile("&(#\\d+|[a-zA-Z]+);");
+    
+    private NGramTokenizer() {
+    }
+    
+    /**
+     * 검색어 토큰 (한 글자 단어는 그 글자, 나머지는 바이그램)
+     */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+    
+    /**
+     * 색인 토큰 (바이그램 + 두 글자 이상 단어의 각 글자)
+     */
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+    
+    private static List<String> tokenize(String text, boolean withUnigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        
+        // 에디터에서 작성된 HTML 태그/엔티티는 색인 대상에서 제외
+        String normalized = HTML_ENTITY.matcher(HTML_TAG.matcher(text).replaceAll(" ")).replaceAll(" ")
+                .toLowerCase(Locale.ROOT);
+        
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else {
+                addWordTokens(word, tokens, withUnigrams);
+            }
+        }
+        addWordTokens(word, tokens, withUnigrams);
+        
+        return tokens;
+    }
+    
+    private static void addWordTokens(StringBuilder word, List<String> tokens, boolean withUnigrams) {
+        if (word.length() == 1) {
+            tokens.add(word.toString());
+        } else {
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+            if (withUnigrams) {
+                for (int i = 0; i < word.length(); i++) {
+                    tokens.add(String.valueOf(word.charAt(i)));
+                }
+            }
+        }
+        word.setLength(0);
+    }
+}
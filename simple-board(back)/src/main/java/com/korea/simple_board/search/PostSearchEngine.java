@@ -0,0 +1,48 @@
+package com.korea.simple_board.search;
+
+import com.korea.simple_board.dto.PostCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 검색 엔진
+ * board.search.engine 설정으로 구현체를 선택한다. (index: 내장 역색인, database: LIKE 검색)
+ */
+public interface PostSearchEngine {
+    
+    /**
+     * 게시글 색인 (이미 색인된 게시글이면 교체)
+     */
+    void index(Long postId, String title, String content, LocalDateTime createdAt);
+    
+    /**
+     * 게시글 색인 제거
+     */
+    void remove(Long postId);
+    
+    /**
+     * 전체 색인 초기화
+     */
+    void clear();
+    
+    /**
+     * 전체 색인 재구성
+     * loader 가 채운 새 색인으로 한 번에 교체하며, 그동안 검색은 기존 색인을 사용한다.
+     * 재구성 중에 들어온 index/remove 는 교체 직전에 새 색인에도 순서대로 다시 적용한다.
+     */
+    void rebuild(Consumer<PostSearchEngine> loader);
+    
+    /**
+     * 관련도 순 검색 결과 (게시글 ID)
+     */
+    Page<Long> search(String keyword, Pageable pageable);
+    
+    /**
+     * 커서 이후의 검색 결과를 최신순으로 조회 (게시글 ID)
+     */
+    List<Long> searchAfter(String keyword, PostCursor cursor, int limit);
+}
@@ -0,0 +1,72 @@
+package com.korea.simple_board.search;
+
+import com.korea.simple_board.dto.PostCursor;
+import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.event.PostChangedEvent;
+import com.korea.simple_board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 색인 관리
+ * 애플리케이션 시작 시 DB 에서 새 색인을 만들어 교체하고, 게시글 변경 커밋 이후 색인을 갱신한다.
+ * 재구성 중에 커밋된 변경은 검색 엔진이 기록해 두었다가 새 색인에 다시 적용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.search.engine", havingValue = "index", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndexer {
+    
+    private static final int REBUILD_BATCH_SIZE = 500;
+    
+    private final PostRepository postRepository;
+    private final PostSearchEngine postSearchEngine;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        log.info("검색 색인 재구성 시작");
+        AtomicLong indexedCount = new AtomicLong();
+        
+        postSearchEngine.rebuild(freshIndex -> {
+            PostCursor cursor = PostCursor.first();
+            while (true) {
+                List<Post> posts = postRepository.findAllAfter(cursor.getCreatedAt(), cursor.getId(),
+                        PageRequest.of(0, REBUILD_BATCH_SIZE));
+                
+                for (Post post : posts) {
+                    freshIndex.index(post.getId(), post.getTitle(), post.getContent(), post.getCreatedAt());
+                }
+                indexedCount.addAndGet(posts.size());
+                
+                if (posts.size() < REBUILD_BATCH_SIZE) {
+                    break;
+                }
+                cursor = PostCursor.of(posts.get(posts.size() - 1));
+            }
+        });
+        
+        log.info("검색 색인 재구성 완료 - {}개 게시글", indexedCount.get());
+    }
+    
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED ->
+                    postSearchEngine.index(event.getPostId(), event.getTitle(), event.getContent(), event.getCreatedAt());
+            case DELETED -> postSearchEngine.remove(event.getPostId());
+            default -> {
+                // 댓글/스크랩 변경은 검색 색인과 무관
+            }
+        }
+    }
+}
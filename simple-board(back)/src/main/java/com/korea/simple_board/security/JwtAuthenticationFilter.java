@@ -0,0 +1,39 @@
+package com.korea.simple_board.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authorization: Bearer 토큰을 검증하고 UserPrincipal 을 SecurityContext 에 등록
+ * 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘긴다. (인증 필요 여부는 SecurityConfig 에서 판단)
+ * 서블릿 필터로 중복 등록되지 않도록 빈이 아닌 SecurityConfig 에서 직접 생성한다.
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    
+    private static final String BEARER_PREFIX = "Bearer ";
+    
+    private final JwtTokenProvider jwtTokenProvider;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            jwtTokenProvider.getPrincipal(header.substring(BEARER_PREFIX.length()))
+                    .ifPresent(principal -> SecurityContextHolder.getContext().setAuthentication(
+                            UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())));
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+}
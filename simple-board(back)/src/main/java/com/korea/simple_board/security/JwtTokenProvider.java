@@ -1,73 +1,170 @@
 package com.korea.simple_board.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.korea.simple_board.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * JWT 발급/검증
+ * 서명 키와 파서는 시작 시 한 번만 만들고, 검증은 서명 확인과 클레임 추출을 한 번에 처리한다.
+ * 최근 검증한 토큰은 만료 시각까지 서명 기준으로 캐시해 같은 토큰의 HMAC 재계산을 생략한다. (지표: cache=verifiedToken)
+ * 토큰에는 내부 ID, 이름, 권한을 함께 담아 인증 시 users 테이블을 조회하지 않는다.
+ */
 @Component
 @Slf4j
 public class JwtTokenProvider {
     
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final String CLAIM_ID = "uid";
+    private static final String CLAIM_NAME = "name";
+    private static final String CLAIM_ROLE = "role";
     
-    @Value("${jwt.expiration}")
-    private int jwtExpirationMs;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final int jwtExpirationMs;
+    private final Cache<String, VerifiedToken> verifiedTokens;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    public JwtTokenProvider(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.expiration}") int jwtExpirationMs,
+            @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.verifiedTokens = cacheMaximumSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaximumSize)
+                        .expireAfter(new UntilTokenExpiry())
+                        .recordStats()
+                        .build()
+                : null;
+        if (verifiedTokens != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedToken");
+        }
     }
     
-    public String generateToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
         
+        // 서명 알고리즘은 키 길이에 맞는 HMAC-SHA 중 가장 강한 것으로 선택
         return Jwts.builder()
-                .subject(userPrincipal.getUsername())
+                .subject(user.getUserId())
+                .claim(CLAIM_ID, user.getId())
+                .claim(CLAIM_NAME, user.getName())
+                .claim(CLAIM_ROLE, user.getRole().name())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey(), Jwts.SIG.HS512)
+                .signWith(signingKey)
                 .compact();
     }
     
-    public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 토큰 검증 후 클레임 반환 (유효하지 않으면 빈 값)
+     */
+    public Optional<Claims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        if (verifiedTokens != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(signature);
+            // 서명만 같은 변조 토큰은 캐시 결과를 쓰지 않도록 토큰 전체를 비교
+            if (cached != null && cached.token().equals(token)) {
+                return Optional.of(cached.claims());
+            }
+        }
         
-        return claims.getSubject();
-    }
-    
-    public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException ex) {
-            log.error("Invalid JWT signature");
-        } catch (MalformedJwtException ex) {
-            log.error("Invalid JWT token");
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            if (verifiedTokens != null && claims.getExpiration() != null) {
+                verifiedTokens.put(signature, new VerifiedToken(token, claims));
+            }
+            return Optional.of(claims);
         } catch (ExpiredJwtException ex) {
             log.error("Expired JWT token");
+        } catch (MalformedJwtException ex) {
+            log.error("Invalid JWT token");
         } catch (UnsupportedJwtException ex) {
             log.error("Unsupported JWT token");
+        } catch (JwtException ex) {
+            log.error("Invalid JWT signature");
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
+    }
+    
+    /**
+     * 토큰의 클레임으로 인증 사용자 정보 생성 (사용자 정보가 없거나 권한 값이 잘못된 토큰은 빈 값)
+     */
+    public Optional<UserPrincipal> getPrincipal(String token) {
+        return verify(token).flatMap(claims -> {
+            Object id = claims.get(CLAIM_ID);
+            String role = claims.get(CLAIM_ROLE, String.class);
+            if (!(id instanceof Number) || role == null) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(new UserPrincipal(((Number) id).longValue(), claims.getSubject(),
+                        claims.get(CLAIM_NAME, String.class), User.Role.valueOf(role)));
+            } catch (IllegalArgumentException ex) {
+                // 서명은 맞지만 알 수 없는 권한 값이면 유효하지 않은 토큰으로 처리
+                log.error("Unknown role in JWT token: {}", role);
+                return Optional.empty();
+            }
+        });
+    }
+    
+    public String getUserIdFromToken(String token) {
+        return verify(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
+    }
+    
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+    
+    private record VerifiedToken(String token, Claims claims) {
+    }
+    
+    /**
+     * 캐시 항목은 토큰의 만료 시각에 제거
+     */
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+        
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMs = value.claims().getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-} 
\ No newline at end of file
+}
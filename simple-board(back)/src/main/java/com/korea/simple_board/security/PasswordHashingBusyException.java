@@ -0,0 +1,11 @@
+package com.korea.simple_board.security;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 찼거나 대기 시간이 초과된 경우 (HTTP 429 로 응답)
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    
+    public PasswordHashingBusyException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
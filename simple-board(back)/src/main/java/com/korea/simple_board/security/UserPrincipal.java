@@ -0,0 +1,28 @@
+package com.korea.simple_board.security;
+
+import com.korea.simple_board.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 클레임에서 만든 인증 사용자 정보
+ * 요청마다 users 테이블을 조회하지 않도록 내부 ID, 아이디, 이름, 권한만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserPrincipal {
+    
+    private final Long id;
+    private final String userId;
+    private final String name;
+    private final User.Role role;
+    
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+}
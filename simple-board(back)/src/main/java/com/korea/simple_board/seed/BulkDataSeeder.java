@@ -0,0 +1,293 @@
+package com.korea.simple_board.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 대용량 더미 데이터 생성 (seed 프로필)
+ * 사용자/게시글/댓글/스크랩/첨부파일을 JDBC 배치 INSERT 와 병렬 작성자로 채운다.
+ * 작성자와 게시글 인기도는 Zipf 분포를 따르며, ID 는 미리 구간을 나눠 직접 지정한다.
+ *
+ * 실행 예: java -jar app.jar --spring.profiles.active=mysql,seed --board.seed.posts=1000000
+ */
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+@Slf4j
+public class BulkDataSeeder implements CommandLineRunner {
+    
+    private static final int CHUNK_SIZE = 10_000;
+    private static final long RANDOM_SEED = 20240101L;
+    private static final String[] CATEGORIES = {"DEV", "GENERAL", "QNA"};
+    private static final String[][] FILE_TYPES = {
+            {".png", "image/png"}, {".jpg", "image/jpeg"}, {".pdf", "application/pdf"}, {".zip", "application/zip"}
+    };
+    
+    private static final String USER_SQL = "INSERT INTO users (id, user_id, password, email, name, role, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String POST_SQL = "INSERT INTO posts (id, title, content, user_id, category, view_count, comment_count, "
+            + "scrap_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String COMMENT_SQL = "INSERT INTO comments (id, content, post_id, user_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SCRAP_SQL = "INSERT INTO scraps (id, post_id, user_id, created_at) VALUES (?, ?, ?, ?)";
+    private static final String POST_FILE_SQL = "INSERT INTO post_files (id, original_file_name, stored_file_name, file_url, "
+            + "file_size, content_type, checksum, post_id, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    
+    @Value("${board.seed.users:100000}")
+    private int users;
+    
+    @Value("${board.seed.posts:1000000}")
+    private int posts;
+    
+    // 게시글당 평균 댓글 수
+    @Value("${board.seed.comments-per-post:5}")
+    private int commentsPerPost;
+    
+    // 사용자당 평균 스크랩 수
+    @Value("${board.seed.scraps-per-user:10}")
+    private int scrapsPerUser;
+    
+    // 첨부파일이 있는 게시글 비율
+    @Value("${board.seed.file-ratio:0.2}")
+    private double fileRatio;
+    
+    @Value("${board.seed.zipf-exponent:1.0}")
+    private double zipfExponent;
+    
+    @Value("${board.seed.threads:8}")
+    private int threads;
+    
+    @Value("${board.seed.batch-size:1000}")
+    private int batchSize;
+    
+    @Value("${board.storage.local.public-url:http://localhost:10000/api/files}")
+    private String filePublicUrl;
+    
+    private LocalDateTime seedStart;
+    
+    @Override
+    public void run(String... args) throws Exception {
+        Long existingPosts = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Long.class);
+        if (existingPosts != null && existingPosts > 0) {
+            log.info("게시글이 이미 있어 대용량 데이터 생성을 건너뜁니다.");
+            return;
+        }
+        
+        log.info("대용량 데이터 생성 시작 - 사용자 {}명, 게시글 {}개, 스레드 {}개", users, posts, threads);
+        long started = System.currentTimeMillis();
+        seedStart = LocalDateTime.now().minusYears(2);
+        
+        long userBase = nextId("users");
+        long postBase = nextId("posts");
+        long commentBase = nextId("comments");
+        long scrapBase = nextId("scraps");
+        long postFileBase = nextId("post_files");
+        
+        ZipfianGenerator authorship = new ZipfianGenerator(users, zipfExponent);
+        ZipfianGenerator popularity = new ZipfianGenerator(posts, zipfExponent);
+        
+        // 게시글별 댓글 수를 인기도에 따라 미리 배분 (댓글 ID 구간 계산과 comment_count 에 사용)
+        int[] commentCounts = new int[posts];
+        SplittableRandom random = new SplittableRandom(RANDOM_SEED);
+        for (long i = 0, total = (long) posts * commentsPerPost; i < total; i++) {
+            commentCounts[popularity.next(random)]++;
+        }
+        long[] commentOffsets = new long[posts];
+        for (int i = 1; i < posts; i++) {
+            commentOffsets[i] = commentOffsets[i - 1] + commentCounts[i - 1];
+        }
+        
+        String passwordHash = passwordEncoder.encode("password");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            runChunks(executor, users, (from, to, chunkRandom) -> {
+                BatchWriter writer = new BatchWriter(USER_SQL);
+                for (int i = from; i < to; i++) {
+                    long id = userBase + i;
+                    Timestamp createdAt = Timestamp.valueOf(seedStart.minusSeconds(users - i));
+                    writer.add(id, "user" + id, passwordHash, "user" + id + "@example.com",
+                            KoreanTextGenerator.name(chunkRandom), "USER", createdAt, createdAt);
+                }
+                writer.flush();
+            });
+            log.info("사용자 생성 완료 - {}ms", System.currentTimeMillis() - started);
+            
+            runChunks(executor, posts, (from, to, chunkRandom) -> {
+                BatchWriter writer = new BatchWriter(POST_SQL);
+                for (int i = from; i < to; i++) {
+                    Timestamp createdAt = Timestamp.valueOf(postCreatedAt(i));
+                    // 댓글이 많은 인기 게시글일수록 조회수도 높게
+                    int viewCount = commentCounts[i] * 20 + chunkRandom.nextInt(50);
+                    writer.add(postBase + i, KoreanTextGenerator.title(chunkRandom), KoreanTextGenerator.content(chunkRandom),
+                            userBase + authorship.next(chunkRandom), CATEGORIES[chunkRandom.nextInt(CATEGORIES.length)],
+                            viewCount, commentCounts[i], createdAt, createdAt);
+                }
+                writer.flush();
+            });
+            log.info("게시글 생성 완료 - {}ms", System.currentTimeMillis() - started);
+            
+            runChunks(executor, posts, (from, to, chunkRandom) -> {
+                BatchWriter comments = new BatchWriter(COMMENT_SQL);
+                BatchWriter files = new BatchWriter(POST_FILE_SQL);
+                for (int i = from; i < to; i++) {
+                    LocalDateTime postCreatedAt = postCreatedAt(i);
+                    for (int j = 0; j < commentCounts[i]; j++) {
+                        Timestamp createdAt = Timestamp.valueOf(postCreatedAt.plusMinutes(1 + chunkRandom.nextInt(7 * 24 * 60)));
+                        comments.add(commentBase + commentOffsets[i] + j, KoreanTextGenerator.comment(chunkRandom),
+                                postBase + i, userBase + authorship.next(chunkRandom), createdAt, createdAt);
+                    }
+                    // 첨부파일 ID 는 게시글마다 최대 3개 구간을 예약
+                    if (chunkRandom.nextDouble() < fileRatio) {
+                        int fileCount = 1 + chunkRandom.nextInt(3);
+                        for (int j = 0; j < fileCount; j++) {
+                            String[] fileType = FILE_TYPES[chunkRandom.nextInt(FILE_TYPES.length)];
+                            String storedFileName = new UUID(chunkRandom.nextLong(), chunkRandom.nextLong()) + fileType[0];
+                            files.add(postFileBase + (long) i * 3 + j, "첨부파일" + (j + 1) + fileType[0], storedFileName,
+                                    filePublicUrl + "/" + storedFileName, 1024L + chunkRandom.nextInt(10 * 1024 * 1024),
+                                    fileType[1], null, postBase + i, Timestamp.valueOf(postCreatedAt));
+                        }
+                    }
+                }
+                comments.flush();
+                files.flush();
+            });
+            log.info("댓글/첨부파일 생성 완료 - {}ms", System.currentTimeMillis() - started);
+            
+            // 스크랩 ID 는 사용자마다 평균의 2배 구간을 예약하고, 같은 게시글은 한 번만 스크랩
+            AtomicIntegerArray scrapCounts = new AtomicIntegerArray(posts);
+            int maxScrapsPerUser = Math.min(scrapsPerUser * 2, posts);
+            runChunks(executor, users, (from, to, chunkRandom) -> {
+                BatchWriter writer = new BatchWriter(SCRAP_SQL);
+                Set<Integer> scrapped = new HashSet<>();
+                for (int i = from; i < to; i++) {
+                    int scrapCount = chunkRandom.nextInt(maxScrapsPerUser + 1);
+                    scrapped.clear();
+                    for (int attempt = 0; scrapped.size() < scrapCount && attempt < scrapCount * 4; attempt++) {
+                        int postIndex = popularity.next(chunkRandom);
+                        if (scrapped.add(postIndex)) {
+                            scrapCounts.incrementAndGet(postIndex);
+                            writer.add(scrapBase + (long) i * maxScrapsPerUser + scrapped.size() - 1, postBase + postIndex,
+                                    userBase + i, Timestamp.valueOf(postCreatedAt(postIndex).plusHours(1)));
+                        }
+                    }
+                }
+                writer.flush();
+            });
+            
+            runChunks(executor, posts, (from, to, chunkRandom) -> {
+                BatchWriter writer = new BatchWriter("UPDATE posts SET scrap_count = ? WHERE id = ?");
+                for (int i = from; i < to; i++) {
+                    if (scrapCounts.get(i) > 0) {
+                        writer.add(scrapCounts.get(i), postBase + i);
+                    }
+                }
+                writer.flush();
+            });
+            log.info("스크랩 생성 완료 - {}ms", System.currentTimeMillis() - started);
+        } finally {
+            executor.shutdown();
+        }
+        
+        restartIdentity("users");
+        restartIdentity("posts");
+        restartIdentity("comments");
+        restartIdentity("scraps");
+        restartIdentity("post_files");
+        
+        log.info("대용량 데이터 생성 완료 - {}ms", System.currentTimeMillis() - started);
+    }
+    
+    /**
+     * 게시글 작성 시각은 ID 순서대로 2년에 걸쳐 분포
+     */
+    private LocalDateTime postCreatedAt(int index) {
+        long spanSeconds = 2L * 365 * 24 * 60 * 60;
+        return seedStart.plusSeconds(spanSeconds * index / posts);
+    }
+    
+    private void runChunks(ExecutorService executor, int total, ChunkTask task) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < total; from += CHUNK_SIZE) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(from + CHUNK_SIZE, total);
+            futures.add(executor.submit(() -> {
+                task.run(chunkFrom, chunkTo, new SplittableRandom(RANDOM_SEED + chunkFrom));
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+    
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return maxId != null ? maxId + 1 : 1;
+    }
+    
+    /**
+     * ID 를 직접 넣었으므로 H2 는 IDENTITY 시작값을 다시 맞춰야 한다 (MySQL AUTO_INCREMENT 는 자동 갱신)
+     */
+    private void restartIdentity(String table) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if ("H2".equals(product)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId(table));
+        }
+    }
+    
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(int from, int to, SplittableRandom random);
+    }
+    
+    /**
+     * batch-size 만큼 모아서 한 번에 실행하는 배치 INSERT/UPDATE
+     */
+    private class BatchWriter {
+        
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+        
+        private BatchWriter(String sql) {
+            this.sql = sql;
+        }
+        
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+        
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
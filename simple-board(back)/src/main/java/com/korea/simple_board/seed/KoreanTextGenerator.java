@@ -0,0 +1,75 @@
+package com.korea.simple_board.seed;
+
+import java.util.SplittableRandom;
+
+/**
+ * 더미 한국어 텍스트 생성기 (이름, 제목, 본문, 댓글)
+ */
+public final class KoreanTextGenerator {
+    
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] GIVEN_NAMES = {
+            "민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "하은", "지호", "수아",
+            "예준", "지민", "주원", "채원", "건우", "지유", "현우", "다은", "우진", "예린"
+    };
+    private static final String[] NOUNS = {
+            "스프링", "게시판", "검색", "성능", "데이터베이스", "인덱스", "캐시", "트랜잭션", "자바", "쿼리",
+            "서버", "배포", "프론트엔드", "리액트", "도커", "클라우드", "보안", "로그인", "토큰", "파일",
+            "업로드", "알고리즘", "코드", "리뷰", "테스트", "면접", "취업", "프로젝트", "스터디", "강의",
+            "오류", "예외", "설정", "환경", "버전", "라이브러리", "프레임워크", "아키텍처", "모니터링", "장애"
+    };
+    private static final String[] PHRASES = {
+            "관련해서 질문이 있습니다", "적용 후기입니다", "정리해 보았습니다", "문제가 해결되지 않아요",
+            "어떻게 생각하시나요", "공유합니다", "추천 부탁드립니다", "비교해 봤습니다", "처음 시작합니다",
+            "경험담입니다", "팁을 알려드립니다", "이슈가 있습니다"
+    };
+    private static final String[] SENTENCES = {
+            "처음에는 간단할 줄 알았는데 생각보다 고려할 부분이 많았습니다.",
+            "공식 문서를 참고해서 설정을 바꿔 보았지만 결과는 같았습니다.",
+            "혹시 비슷한 경험이 있으신 분들의 의견을 듣고 싶습니다.",
+            "운영 환경에서는 로컬과 다르게 동작해서 원인을 찾는 데 시간이 걸렸습니다.",
+            "결국 쿼리를 다시 작성해서 응답 시간을 크게 줄일 수 있었습니다.",
+            "팀원들과 코드 리뷰를 하면서 더 나은 방법을 찾았습니다.",
+            "다음에는 테스트 코드를 먼저 작성하고 진행해 볼 생각입니다.",
+            "자세한 설정 내용은 아래에 정리해 두었습니다.",
+            "로그를 확인해 보니 예상하지 못한 곳에서 예외가 발생하고 있었습니다.",
+            "캐시를 적용한 뒤로는 데이터베이스 부하가 눈에 띄게 줄었습니다."
+    };
+    private static final String[] COMMENTS = {
+            "좋은 정보 감사합니다!", "저도 같은 문제를 겪었어요.", "설정 파일을 한번 확인해 보세요.",
+            "정리가 잘 되어 있네요.", "혹시 버전이 어떻게 되나요?", "덕분에 해결했습니다.",
+            "다른 방법도 있을 것 같아요.", "공감합니다.", "자세한 로그를 올려주시면 도움이 될 것 같아요.",
+            "잘 읽었습니다."
+    };
+    
+    private KoreanTextGenerator() {
+    }
+    
+    public static String name(SplittableRandom random) {
+        return pick(SURNAMES, random) + pick(GIVEN_NAMES, random);
+    }
+    
+    public static String title(SplittableRandom random) {
+        return pick(NOUNS, random) + " " + pick(NOUNS, random) + " " + pick(PHRASES, random);
+    }
+    
+    public static String content(SplittableRandom random) {
+        int sentenceCount = 3 + random.nextInt(10);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < sentenceCount; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(pick(NOUNS, random)).append(' ').append(pick(SENTENCES, random));
+        }
+        return builder.toString();
+    }
+    
+    public static String comment(SplittableRandom random) {
+        return pick(COMMENTS, random);
+    }
+    
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,63 @@
+package com.korea.simple_board.seed;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 난수 생성기
+ * 순위 k 가 뽑힐 확률이 1/k^s 에 비례한다. 누적 분포를 미리 계산해 이진 탐색으로 샘플링하며,
+ * 인기 항목이 ID 앞쪽에 몰리지 않도록 순위를 서로소 보폭으로 섞어서 인덱스로 바꾼다.
+ */
+public class ZipfianGenerator {
+    
+    private final double[] cumulative;
+    private final long stride;
+    
+    public ZipfianGenerator(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+        
+        cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        
+        stride = coprimeStride(size);
+    }
+    
+    public int size() {
+        return cumulative.length;
+    }
+    
+    /**
+     * 0 부터 size - 1 사이의 인덱스 (인기 순위가 높을수록 자주 뽑힘)
+     */
+    public int next(SplittableRandom random) {
+        int found = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = found >= 0 ? found : Math.min(-found - 1, cumulative.length - 1);
+        return (int) ((rank * stride) % cumulative.length);
+    }
+    
+    private static long coprimeStride(int size) {
+        long candidate = Math.max(1, (long) (size * 0.618));
+        while (gcd(candidate, size) != 1) {
+            candidate++;
+        }
+        return candidate;
+    }
+    
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -1,44 +1,52 @@
 package com.korea.simple_board.service;
 
+import com.korea.simple_board.cache.UserIdentityCache;
+import com.korea.simple_board.dto.CommentDto;
+import com.korea.simple_board.dto.PostCursor;
+import com.korea.simple_board.dto.UserIdentity;
 import com.korea.simple_board.entity.Comment;
 import com.korea.simple_board.entity.Post;
-import com.korea.simple_board.entity.User;
+import com.korea.simple_board.event.PostChangedEvent;
 import com.korea.simple_board.repository.CommentRepository;
 import com.korea.simple_board.repository.PostRepository;
 import com.korea.simple_board.repository.UserRepository;
+import com.korea.simple_board.repository.projection.CommentThreadProjection;
+import com.korea.simple_board.repository.projection.UserCommentProjection;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 댓글 서비스
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class CommentService {
     
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 댓글 작성
      */
-    public Map<String, Object> createComment(Long postId, String content, String userId) {
+    @Transactional
+    public Map<String, Object> createComment(Long postId, String content, Long userId) {
         try {
             // 게시글 존재 확인
             Post post = postRepository.findById(postId)
                     .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
             
-            // 사용자 존재 확인
-            User user = userRepository.findByUserId(userId)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-            
             // 댓글 내용 검증
             if (content == null || content.trim().isEmpty()) {
                 throw new RuntimeException("댓글 내용을 입력해주세요.");
@@ -52,10 +60,12 @@ public class CommentService {
             Comment comment = Comment.builder()
                     .content(content.trim())
                     .post(post)
-                    .author(user)
+                    .author(userRepository.getReferenceById(userId))
                     .build();
             
             Comment savedComment = commentRepository.save(comment);
+            postRepository.addCommentCount(postId, 1);
+            eventPublisher.publishEvent(PostChangedEvent.commentChanged(post));
             
             return Map.of(
                 "success", true,
@@ -77,52 +87,83 @@ public class CommentService {
         }
     }
     
-    // 게시글의 댓글 목록 조회
-    public Map<String, Object> getCommentsByPostId(Long postId) {
-        try {
-            // 게시글 존재 확인
-            if (!postRepository.existsById(postId)) {
-                throw new RuntimeException("게시글을 찾을 수 없습니다.");
-            }
-            
-            List<Comment> comments = commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
-            
-            List<Map<String, Object>> commentList = comments.stream()
-                    .map(comment -> {
-                        Map<String, Object> commentMap = Map.of(
-                            "id", comment.getId(),
-                            "content", comment.getContent(),
-                            "authorUserId", comment.getAuthor().getUserId(),
-                            "authorName", comment.getAuthor().getName(),
-                            "createdAt", comment.getCreatedAt(),
-                            "updatedAt", comment.getUpdatedAt()
-                        );
-                        return commentMap;
-                    })
-                    .collect(Collectors.toList());
-            
-            return Map.of(
-                "success", true,
-                "comments", commentList,
-                "totalCount", commentList.size()
-            );
-            
-        } catch (Exception e) {
-            return Map.of(
-                "success", false,
-                "message", e.getMessage()
-            );
+    /**
+     * 게시글의 댓글 목록 조회
+     * 댓글과 작성자를 한 번의 조인 쿼리로 가져오고, 댓글이 없을 때만 게시글 존재 여부를 확인한다.
+     */
+    public CommentDto.ThreadResponse getCommentsByPostId(Long postId) {
+        List<CommentThreadProjection> comments = commentRepository.findThreadItems(postId);
+        if (comments.isEmpty()) {
+            checkPostExists(postId);
         }
+        
+        return CommentDto.ThreadResponse.builder()
+                .success(true)
+                .comments(toCommentResponses(comments))
+                .totalCount(comments.size())
+                .hasNext(false)
+                .build();
+    }
+    
+    /**
+     * 게시글의 댓글 목록 커서 조회 (작성일 오름차순, 첫 페이지는 빈 커서)
+     */
+    public CommentDto.ThreadResponse getCommentsByPostId(Long postId, PostCursor cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<CommentThreadProjection> comments = cursor.isFirst()
+                ? commentRepository.findThreadItems(postId, limit)
+                : commentRepository.findThreadItemsAfter(postId, cursor.getCreatedAt(), cursor.getId(), limit);
+        if (comments.isEmpty() && cursor.isFirst()) {
+            checkPostExists(postId);
+        }
+        
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
+        
+        CommentThreadProjection last = hasNext ? comments.get(comments.size() - 1) : null;
+        
+        return CommentDto.ThreadResponse.builder()
+                .success(true)
+                .comments(toCommentResponses(comments))
+                .totalCount(comments.size())
+                .hasNext(hasNext)
+                .nextCursor(last != null ? new PostCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+    
+    private void checkPostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+    }
+    
+    private List<CommentDto.CommentResponse> toCommentResponses(List<CommentThreadProjection> comments) {
+        List<CommentDto.CommentResponse> responses = new ArrayList<>(comments.size());
+        for (CommentThreadProjection comment : comments) {
+            responses.add(CommentDto.CommentResponse.builder()
+                    .id(comment.getId())
+                    .content(comment.getContent())
+                    .authorUserId(comment.getAuthorUserId())
+                    .authorName(comment.getAuthorName())
+                    .createdAt(comment.getCreatedAt())
+                    .updatedAt(comment.getUpdatedAt())
+                    .build());
+        }
+        return responses;
     }
     
     // 댓글 수정
-    public Map<String, Object> updateComment(Long commentId, String content, String userId) {
+    @Transactional
+    public Map<String, Object> updateComment(Long commentId, String content, Long userId) {
         try {
             Comment comment = commentRepository.findById(commentId)
                     .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
             
             // 작성자 확인
-            if (!comment.getAuthor().getUserId().equals(userId)) {
+            if (!comment.getAuthor().getId().equals(userId)) {
                 throw new RuntimeException("댓글을 수정할 권한이 없습니다.");
             }
             
@@ -161,17 +202,20 @@ public class CommentService {
     }
     
     // 댓글 삭제
-    public Map<String, Object> deleteComment(Long commentId, String userId) {
+    @Transactional
+    public Map<String, Object> deleteComment(Long commentId, Long userId) {
         try {
             Comment comment = commentRepository.findById(commentId)
                     .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
             
             // 작성자 확인
-            if (!comment.getAuthor().getUserId().equals(userId)) {
+            if (!comment.getAuthor().getId().equals(userId)) {
                 throw new RuntimeException("댓글을 삭제할 권한이 없습니다.");
             }
             
             commentRepository.delete(comment);
+            postRepository.addCommentCount(comment.getPost().getId(), -1);
+            eventPublisher.publishEvent(PostChangedEvent.commentChanged(comment.getPost()));
             
             return Map.of(
                 "success", true,
@@ -186,35 +230,42 @@ public class CommentService {
         }
     }
     
-    // 사용자가 작성한 댓글 목록 조회
-    public Map<String, Object> getCommentsByUserId(String userId) {
-        try {
-            List<Comment> comments = commentRepository.findByAuthorUserIdOrderByCreatedAtDesc(userId);
-            
-            List<Map<String, Object>> commentList = comments.stream()
-                    .map(comment -> {
-                        Map<String, Object> commentMap = Map.of(
-                            "id", comment.getId(),
-                            "content", comment.getContent(),
-                            "postId", comment.getPost().getId(),
-                            "postTitle", comment.getPost().getTitle(),
-                            "createdAt", comment.getCreatedAt()
-                        );
-                        return commentMap;
-                    })
-                    .collect(Collectors.toList());
-            
-            return Map.of(
-                "success", true,
-                "comments", commentList,
-                "totalCount", commentList.size()
-            );
-            
-        } catch (Exception e) {
-            return Map.of(
-                "success", false,
-                "message", e.getMessage()
-            );
+    /**
+     * 사용자가 작성한 댓글 커서 조회 (최신순, 첫 페이지는 빈 커서)
+     * 작성자 ID 는 식별 정보 캐시에서 얻고, 댓글과 게시글 제목은 한 번의 조인 쿼리로 가져온다.
+     */
+    public CommentDto.UserCommentsResponse getCommentsByUserId(String userId, PostCursor cursor, int size) {
+        UserIdentity user = userIdentityCache.find(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<UserCommentProjection> comments = commentRepository.findUserCommentsAfter(
+                user.getId(), cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, size + 1));
+        
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
+        
+        List<CommentDto.UserCommentResponse> responses = new ArrayList<>(comments.size());
+        for (UserCommentProjection comment : comments) {
+            responses.add(CommentDto.UserCommentResponse.builder()
+                    .id(comment.getId())
+                    .snippet(comment.getSnippet())
+                    .postId(comment.getPostId())
+                    .postTitle(comment.getPostTitle())
+                    .createdAt(comment.getCreatedAt())
+                    .build());
         }
+        
+        UserCommentProjection last = hasNext ? comments.get(comments.size() - 1) : null;
+        
+        return CommentDto.UserCommentsResponse.builder()
+                .success(true)
+                .comments(responses)
+                .size(responses.size())
+                .hasNext(hasNext)
+                .nextCursor(last != null ? new PostCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
     }
-} 
\ No newline at end of file
+}
@@ -1,12 +1,31 @@
 package com.korea.simple_board.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.entity.PostFile;
+import com.korea.simple_board.event.PostChangedEvent;
+import com.korea.simple_board.repository.PostFileRepository;
+import com.korea.simple_board.repository.PostRepository;
+import com.korea.simple_board.storage.FileStorage;
+import com.korea.simple_board.storage.StoredFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -14,39 +33,162 @@ import java.util.UUID;
 @Slf4j
 public class FileService {
     
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucketName;
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
     
-    @Value("${cloud.aws.region.static}")
-    private String region;
+    private final FileStorage fileStorage;
+    private final PostFileRepository postFileRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public String uploadFile(MultipartFile file) {
-        try {
-            // 파일명 중복 방지를 위한 UUID 생성
-            String originalFileName = file.getOriginalFilename();
-            String fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
-            String storedFileName = UUID.randomUUID().toString() + fileExtension;
-            
-            // AWS S3 업로드 로직 (실제 구현 시 AWS SDK 사용)
-            // 여기서는 임시로 로컬 경로를 반환
-            String fileUrl = "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + storedFileName;
+    // 저장된 파일은 내용이 바뀌지 않으므로(UUID 파일명) 다운로드 시 메타데이터를 메모리에 보관
+    private final Cache<String, StoredFile> fileInfoCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+    
+    // 아직 게시글에 첨부되지 않은 업로드의 업로더 (저장 파일명 -> 사용자 내부 ID)
+    // 게시글 작성 전 에디터에서 파일을 빼는 경우 업로더 본인만 삭제하고, 업로더의 게시글에만 첨부할 수 있도록 보관
+    private final Cache<String, Long> pendingUploads = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+    
+    /**
+     * 파일 업로드
+     * 업로드 스트림을 한 번만 읽으면서 저장, 크기/체크섬 계산, 콘텐츠 타입 판별을 함께 처리한다.
+     */
+    public StoredFile uploadFile(MultipartFile file, Long uploaderId) {
+        String originalFileName = file.getOriginalFilename() != null ? file.getOriginalFilename() : "file";
+        
+        // 파일명 중복 방지를 위한 UUID 생성
+        int extensionIndex = originalFileName.lastIndexOf(".");
+        String fileExtension = extensionIndex >= 0 ? originalFileName.substring(extensionIndex) : "";
+        String storedFileName = UUID.randomUUID().toString() + fileExtension;
+        
+        try (InputStream in = new BufferedInputStream(file.getInputStream())) {
+            String contentType = detectContentType(in, file.getContentType(), originalFileName);
+            StoredFile storedFile = fileStorage.store(storedFileName, in, file.getSize(), contentType, originalFileName);
+            pendingUploads.put(storedFileName, uploaderId);
             
-            log.info("File uploaded: {} -> {}", originalFileName, fileUrl);
+            log.info("File uploaded: {} -> {} ({} bytes, {})", originalFileName, storedFile.getFileUrl(),
+                    storedFile.getFileSize(), storedFile.getContentType());
             
-            return fileUrl;
+            return storedFile;
         } catch (Exception e) {
             log.error("File upload failed: {}", e.getMessage());
             throw new RuntimeException("파일 업로드에 실패했습니다.");
         }
     }
     
-    public void deleteFile(String fileUrl) {
+    /**
+     * 파일 URL 로 저장된 파일 정보 조회 (저장소에 없으면 빈 값)
+     */
+    public Optional<StoredFile> findFile(String fileUrl) {
         try {
-            // AWS S3 삭제 로직 (실제 구현 시 AWS SDK 사용)
+            return fileStorage.find(extractStoredFileName(fileUrl));
+        } catch (Exception e) {
+            log.warn("File lookup failed: {} - {}", fileUrl, e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * 다운로드용 파일 정보 조회 (캐시에 있으면 저장소를 조회하지 않음)
+     */
+    public Optional<StoredFile> getFileInfo(String storedFileName) throws IOException {
+        StoredFile cached = fileInfoCache.getIfPresent(storedFileName);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        Optional<StoredFile> storedFile = fileStorage.find(storedFileName);
+        storedFile.ifPresent(file -> fileInfoCache.put(storedFileName, file));
+        return storedFile;
+    }
+    
+    public Resource loadFile(String storedFileName) throws IOException {
+        return fileStorage.load(storedFileName);
+    }
+    
+    /**
+     * 업로더 본인의 게시글에 첨부하기 위해 첨부 전 업로드를 가져감
+     * 다른 사용자의 업로드이거나 기록이 없으면 false, 가져간 기록은 트랜잭션 커밋 후 제거한다.
+     */
+    public boolean claimPendingUpload(String storedFileName, Long userId) {
+        if (!userId.equals(pendingUploads.getIfPresent(storedFileName))) {
+            return false;
+        }
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingUploads.invalidate(storedFileName);
+                }
+            });
+        } else {
+            pendingUploads.invalidate(storedFileName);
+        }
+        return true;
+    }
+    
+    /**
+     * 파일 삭제
+     * 게시글에 첨부된 파일은 게시글 작성자만, 첨부 전 파일은 업로드한 사용자만 삭제할 수 있다.
+     * 첨부 정보는 트랜잭션으로 먼저 지우고, 저장소의 파일은 커밋 이후에 지운다.
+     */
+    public void deleteFile(String fileUrl, Long userId) {
+        String storedFileName = extractStoredFileName(fileUrl);
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PostFile> attached = postFileRepository.findByStoredFileName(storedFileName);
+            if (attached.isEmpty()) {
+                if (!userId.equals(pendingUploads.getIfPresent(storedFileName))) {
+                    throw new RuntimeException("파일을 삭제할 권한이 없습니다.");
+                }
+                return;
+            }
+            
+            // 첨부된 모든 게시글의 작성자여야 삭제 가능
+            for (PostFile postFile : attached) {
+                Post post = postRepository.findById(postFile.getPostId()).orElse(null);
+                if (post != null && !post.getAuthor().getId().equals(userId)) {
+                    throw new RuntimeException("파일을 삭제할 권한이 없습니다.");
+                }
+            }
+            for (PostFile postFile : attached) {
+                postFileRepository.delete(postFile);
+                postRepository.findById(postFile.getPostId())
+                        .ifPresent(post -> eventPublisher.publishEvent(PostChangedEvent.updated(post)));
+            }
+        });
+        
+        try {
+            fileInfoCache.invalidate(storedFileName);
+            pendingUploads.invalidate(storedFileName);
+            fileStorage.delete(storedFileName);
             log.info("File deleted: {}", fileUrl);
         } catch (Exception e) {
-            log.error("File deletion failed: {}", e.getMessage());
+            log.error("File deletion failed: {}", fileUrl, e);
             throw new RuntimeException("파일 삭제에 실패했습니다.");
         }
     }
-} 
\ No newline at end of file
+    
+    public String extractStoredFileName(String fileUrl) {
+        return fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+    }
+    
+    /**
+     * 스트림 앞부분의 시그니처로 콘텐츠 타입을 판별하고, 실패하면 요청 헤더와 확장자 순으로 사용
+     */
+    private String detectContentType(InputStream in, String declaredContentType, String fileName) throws IOException {
+        String contentType = URLConnection.guessContentTypeFromStream(in);
+        if (contentType == null && declaredContentType != null && !declaredContentType.isEmpty()) {
+            contentType = declaredContentType;
+        }
+        if (contentType == null) {
+            contentType = URLConnection.guessContentTypeFromName(fileName);
+        }
+        return contentType != null ? contentType : DEFAULT_CONTENT_TYPE;
+    }
+}
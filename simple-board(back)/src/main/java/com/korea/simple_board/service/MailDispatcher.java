@@ -0,0 +1,258 @@
+package com.korea.simple_board.service;
+
+import com.korea.simple_board.entity.MailOutbox;
+import com.korea.simple_board.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 아웃박스 발송기
+ * 발송할 차례인 메일을 batch-size 만큼 선점한 뒤, 최대 concurrency 개의 SMTP 연결로 나누어 보낸다.
+ * 실패한 메일은 지수 백오프로 다시 시도하고 max-attempts 를 넘으면 FAILED 로 남긴다.
+ * 임시 비밀번호가 들어 있을 수 있으므로 SENT/FAILED 가 되면 본문을 지우고, 보관 기간이 지나면 행도 삭제한다.
+ * 발송 도중 서버가 종료되면 선점 만료(lease-ms) 후 다시 발송 대상이 된다.
+ * 상태별 건수와 발송 성공/실패 횟수는 board.mail.* 지표로 노출한다.
+ */
+@Component
+@Slf4j
+public class MailDispatcher {
+    
+    private static final List<MailOutbox.Status> DISPATCHABLE = List.of(MailOutbox.Status.PENDING, MailOutbox.Status.SENDING);
+    
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long leaseMs;
+    private final long retentionHours;
+    private final ExecutorService senders;
+    
+    private final Counter sentCounter;
+    private final Counter failedAttemptCounter;
+    
+    public MailDispatcher(
+            MailOutboxRepository mailOutboxRepository,
+            JavaMailSender mailSender,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${board.mail.batch-size:50}") int batchSize,
+            @Value("${board.mail.concurrency:4}") int concurrency,
+            @Value("${board.mail.max-attempts:5}") int maxAttempts,
+            @Value("${board.mail.initial-backoff-ms:10000}") long initialBackoffMs,
+            @Value("${board.mail.max-backoff-ms:3600000}") long maxBackoffMs,
+            @Value("${board.mail.lease-ms:300000}") long leaseMs,
+            @Value("${board.mail.retention-hours:24}") long retentionHours) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.leaseMs = leaseMs;
+        this.retentionHours = retentionHours;
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "mail-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        // 수집할 때마다 상태별 건수를 조회 (상태 값 개수만큼의 COUNT 쿼리)
+        for (MailOutbox.Status status : MailOutbox.Status.values()) {
+            Gauge.builder("board.mail.outbox", mailOutboxRepository, repository -> repository.countByStatus(status))
+                    .description("메일 아웃박스 상태별 건수")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        this.sentCounter = Counter.builder("board.mail.sent")
+                .description("발송에 성공한 메일 수")
+                .register(meterRegistry);
+        this.failedAttemptCounter = Counter.builder("board.mail.failed.attempts")
+                .description("실패한 발송 시도 수 (재시도 포함)")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 발송할 차례인 메일이 남아있는 동안 배치 단위로 반복 발송
+     */
+    @Scheduled(fixedDelayString = "${board.mail.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        int dispatched;
+        do {
+            dispatched = dispatchBatch();
+        } while (dispatched == batchSize);
+    }
+    
+    private int dispatchBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        List<MailOutbox> batch = claim(claimToken);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        // 선점한 메일을 concurrency 개 묶음으로 나누고 묶음마다 SMTP 연결 하나로 발송
+        int chunkSize = (batch.size() + concurrency - 1) / concurrency;
+        List<Future<Map<Long, String>>> futures = new ArrayList<>();
+        for (int from = 0; from < batch.size(); from += chunkSize) {
+            List<MailOutbox> chunk = batch.subList(from, Math.min(from + chunkSize, batch.size()));
+            futures.add(senders.submit(() -> send(chunk)));
+        }
+        
+        Map<Long, String> failures = new HashMap<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                failures.putAll(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 결과를 기록하지 못한 메일은 선점 만료 후 다시 발송
+                return 0;
+            } catch (ExecutionException e) {
+                List<MailOutbox> chunk = batch.subList(i * chunkSize, Math.min((i + 1) * chunkSize, batch.size()));
+                chunk.forEach(mail -> failures.put(mail.getId(), String.valueOf(e.getCause())));
+            }
+        }
+        
+        complete(batch, failures, claimToken);
+        return batch.size();
+    }
+    
+    private List<MailOutbox> claim(String claimToken) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = mailOutboxRepository.findDueIds(DISPATCHABLE, now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            mailOutboxRepository.claim(ids, DISPATCHABLE, MailOutbox.Status.SENDING, claimToken,
+                    now, now.plusNanos(leaseMs * 1_000_000));
+            return mailOutboxRepository.findByClaimToken(claimToken);
+        });
+    }
+    
+    /**
+     * 메일 묶음 발송 후 실패한 메일의 ID 와 오류 메시지 반환
+     */
+    private Map<Long, String> send(List<MailOutbox> chunk) {
+        Map<Object, Long> ids = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            MailOutbox mail = chunk.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(mail.getRecipient());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getBody());
+            messages[i] = message;
+            ids.put(message, mail.getId());
+        }
+        
+        Map<Long, String> failures = new HashMap<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                chunk.forEach(mail -> failures.put(mail.getId(), e.getMessage()));
+            } else {
+                e.getFailedMessages().forEach((message, cause) -> failures.put(ids.get(message), cause.getMessage()));
+            }
+        } catch (MailException e) {
+            chunk.forEach(mail -> failures.put(mail.getId(), e.getMessage()));
+        }
+        return failures;
+    }
+    
+    private void complete(List<MailOutbox> batch, Map<Long, String> failures, String claimToken) {
+        List<Long> sentIds = batch.stream()
+                .map(MailOutbox::getId)
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (!sentIds.isEmpty()) {
+                mailOutboxRepository.markSent(sentIds, claimToken, MailOutbox.Status.SENT, now);
+            }
+            if (!failures.isEmpty()) {
+                for (MailOutbox mail : mailOutboxRepository.findAllById(failures.keySet())) {
+                    if (!claimToken.equals(mail.getClaimToken())) {
+                        continue;
+                    }
+                    String error = failures.get(mail.getId());
+                    mail.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+                    mail.setClaimToken(null);
+                    if (mail.getAttempts() >= maxAttempts) {
+                        mail.setStatus(MailOutbox.Status.FAILED);
+                        mail.setBody("");
+                        log.error("메일 발송 실패 (재시도 중단) - id: {}, 시도: {}회, error: {}", mail.getId(), mail.getAttempts(), error);
+                    } else {
+                        mail.setStatus(MailOutbox.Status.PENDING);
+                        mail.setNextAttemptAt(now.plusNanos(backoffMs(mail.getAttempts()) * 1_000_000));
+                        log.warn("메일 발송 실패 (재시도 예정) - id: {}, 시도: {}회, error: {}", mail.getId(), mail.getAttempts(), error);
+                    }
+                }
+            }
+        });
+        
+        sentCounter.increment(sentIds.size());
+        failedAttemptCounter.increment(failures.size());
+        log.debug("메일 발송 완료 - 성공: {}건, 실패: {}건", sentIds.size(), failures.size());
+    }
+    
+    /**
+     * 재시도 대기 시간: initial * 2^(시도 횟수 - 1) (최대 max-backoff), 동시에 몰리지 않도록 절반은 무작위
+     */
+    private long backoffMs(int attempts) {
+        long backoff = initialBackoffMs << Math.min(attempts - 1, 20);
+        backoff = Math.min(backoff, maxBackoffMs);
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+    
+    // 발송 완료/실패 메일은 보관 기간이 지나면 삭제
+    @Scheduled(cron = "${board.mail.cleanup-cron:0 30 * * * *}")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        int deleted = transactionTemplate.execute(status ->
+                mailOutboxRepository.deleteSentBefore(MailOutbox.Status.SENT, before)
+                        + mailOutboxRepository.deleteCreatedBefore(MailOutbox.Status.FAILED, before));
+        if (deleted > 0) {
+            log.info("발송 완료/실패 메일 정리 - {}건 삭제", deleted);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+    }
+}
@@ -0,0 +1,29 @@
+package com.korea.simple_board.service;
+
+import com.korea.simple_board.entity.MailOutbox;
+import com.korea.simple_board.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메일 발송 요청을 아웃박스에 저장
+ * 호출한 쪽의 트랜잭션에 함께 저장되므로 트랜잭션이 롤백되면 메일도 발송되지 않는다.
+ * 실제 발송은 MailDispatcher 가 담당한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+    
+    private final MailOutboxRepository mailOutboxRepository;
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String recipient, String subject, String body) {
+        mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .build());
+    }
+}
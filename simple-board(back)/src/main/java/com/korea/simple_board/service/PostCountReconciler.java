@@ -0,0 +1,43 @@
+package com.korea.simple_board.service;
+
+import com.korea.simple_board.cache.PostListVersions;
+import com.korea.simple_board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 댓글 수/스크랩 수 보정 작업
+ * 집계 컬럼과 실제 댓글/스크랩 데이터가 어긋난 경우 ID 범위 단위로 다시 계산한다.
+ * 전체 게시글을 훑는 작업이므로 시작 시에는 실행하지 않고 트래픽이 적은 시간에만 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCountReconciler {
+    
+    private static final long BATCH_SIZE = 1000;
+    
+    private final PostRepository postRepository;
+    private final PostListVersions postListVersions;
+    
+    @Scheduled(cron = "${board.counter.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        Long maxId = postRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+        
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += BATCH_SIZE) {
+            repaired += postRepository.reconcileCounts(fromId, fromId + BATCH_SIZE - 1);
+        }
+        
+        if (repaired > 0) {
+            // 보정된 집계 수가 목록 응답에 반영되도록 목록 ETag 갱신
+            postListVersions.incrementAll();
+            log.info("게시글 집계 보정 완료 - {}개 게시글 수정", repaired);
+        }
+    }
+}
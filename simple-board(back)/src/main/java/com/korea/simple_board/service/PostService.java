@@ -1,50 +1,75 @@
 package com.korea.simple_board.service;
 
+import com.korea.simple_board.cache.PostDetailCache;
+import com.korea.simple_board.cache.UserIdentityCache;
+import com.korea.simple_board.dto.PostCursor;
 import com.korea.simple_board.dto.PostDto;
+import com.korea.simple_board.dto.UserIdentity;
 import com.korea.simple_board.entity.Post;
 import com.korea.simple_board.entity.PostFile;
 import com.korea.simple_board.entity.Scrap;
 import com.korea.simple_board.entity.User;
-import com.korea.simple_board.repository.CommentRepository;
+import com.korea.simple_board.event.PostChangedEvent;
 import com.korea.simple_board.repository.PostFileRepository;
 import com.korea.simple_board.repository.PostRepository;
 import com.korea.simple_board.repository.ScrapRepository;
 import com.korea.simple_board.repository.UserRepository;
+import com.korea.simple_board.repository.projection.PostListProjection;
+import com.korea.simple_board.repository.projection.PostVersionProjection;
+import com.korea.simple_board.repository.projection.ScrappedPostProjection;
+import com.korea.simple_board.search.PostSearchEngine;
+import com.korea.simple_board.storage.StoredFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 게시글 서비스
  * 게시글 작성, 조회, 수정, 삭제와 스크랩 기능을 담당
+ * 조회 메서드는 읽기 전용 트랜잭션(플러시/변경 감지 없음)으로 실행하고, 쓰기 메서드만 @Transactional 을 지정한다.
+ * 요청자는 인증 정보의 내부 사용자 ID(users.id)로 받으므로 사용자 조회 없이 바로 사용한다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
+@Transactional(readOnly = true)
 public class PostService {
     
     private final PostRepository postRepository;
     private final PostFileRepository postFileRepository;
     private final UserRepository userRepository;
     private final ScrapRepository scrapRepository;
-    private final CommentRepository commentRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostSearchEngine postSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostDetailCache postDetailCache;
+    private final UserIdentityCache userIdentityCache;
+    private final FileService fileService;
     
     /**
      * 게시글 작성
      */
-    public PostDto.PostResponse createPost(String userId, PostDto.CreateRequest request) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    @Transactional
+    public PostDto.PostResponse createPost(Long userId, PostDto.CreateRequest request) {
+        User user = userRepository.getReferenceById(userId);
         
         Post post = Post.builder()
                 .title(request.getTitle())
@@ -57,92 +82,118 @@ public class PostService {
         Post savedPost = postRepository.save(post);
         
         // 첨부파일 처리
-        if (request.getFileUrls() != null && !request.getFileUrls().isEmpty()) {
-            for (String fileUrl : request.getFileUrls()) {
-                if (fileUrl != null && !fileUrl.trim().isEmpty()) {
-                    String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
-                    
-                    PostFile postFile = PostFile.builder()
-                            .originalFileName(fileName)
-                            .storedFileName(fileName)
-                            .fileUrl(fileUrl)
-                            .fileSize(0L)
-                            .contentType("application/octet-stream")
-                            .postId(savedPost.getId())
-                            .build();
-                    
-                    postFileRepository.save(postFile);
-                }
-            }
-        }
+        savePostFiles(savedPost.getId(), userId, request.getFileUrls(), Set.of());
+        
+        eventPublisher.publishEvent(PostChangedEvent.created(savedPost));
         
         return convertToPostResponse(savedPost, false);
     }
     
     /**
      * 게시글 조회
+     * 조회수는 ViewCountBuffer 에 누적되어 주기적으로 반영되므로 게시글 행을 갱신하지 않는다.
+     * 상세 내용은 PostDetailCache 에서 가져오고, 조회수/집계 수/스크랩 여부만 요청마다 계산한다.
      */
-    public PostDto.PostResponse getPost(Long postId, String userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+    public PostDto.PostResponse getPost(Long postId, Long userId) {
+        return getPost(getPostVersion(postId, userId));
+    }
+    
+    /**
+     * 조건부 요청 검증 후 게시글 조회 (getPostVersion 으로 이미 조회한 값을 재사용)
+     */
+    public PostDto.PostResponse getPost(PostDto.PostVersion version) {
+        Long postId = version.getPostId();
+        viewCountBuffer.increment(postId);
         
-        post.incrementViewCount();
-        postRepository.save(post);
+        PostDto.PostResponse cached = postDetailCache.get(postId, id -> {
+            Post post = postRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+            return convertToPostResponse(post, false);
+        });
         
-        boolean isScrapped = false;
-        if (userId != null) {
-            User user = userRepository.findByUserId(userId).orElse(null);
-            if (user != null) {
-                isScrapped = scrapRepository.existsByPostIdAndUserId(postId, user.getId());
-            }
+        return cached.toBuilder()
+                .viewCount(version.getViewCount() + (int) viewCountBuffer.getPendingCount(postId))
+                .commentCount((long) version.getCommentCount())
+                .scrapCount(version.getScrapCount())
+                .isScrapped(version.isScrapped())
+                .build();
+    }
+    
+    /**
+     * 게시글 상세 검증값 조회 (본문 없이 수정 시각, 집계 수, 요청자의 스크랩 여부만 조회)
+     */
+    public PostDto.PostVersion getPostVersion(Long postId, Long userId) {
+        PostVersionProjection version = postRepository.findVersionById(postId)
+                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+        
+        return PostDto.PostVersion.builder()
+                .postId(postId)
+                .updatedAt(version.getUpdatedAt())
+                .viewCount(version.getViewCount() != null ? version.getViewCount() : 0)
+                .commentCount(version.getCommentCount() != null ? version.getCommentCount() : 0)
+                .scrapCount(version.getScrapCount() != null ? version.getScrapCount() : 0)
+                .isScrapped(userId != null && scrapRepository.existsByPostIdAndUserId(postId, userId))
+                .build();
+    }
+    
+    /**
+     * 304 응답으로 본문 없이 끝난 조회도 조회수에 반영
+     */
+    public void countView(Long postId) {
+        viewCountBuffer.increment(postId);
+    }
+    
+    public Page<PostDto.PostListResponse> getPosts(Post.Category category, Pageable pageable, Long userId) {
+        Page<PostListProjection> posts;
+        if (category != null) {
+            posts = postRepository.findListItemsByCategory(category, pageable);
+        } else {
+            posts = postRepository.findListItems(pageable);
         }
         
-        return convertToPostResponse(post, isScrapped);
+        return toPostListPage(posts, userId);
     }
     
-    public Page<PostDto.PostListResponse> getPosts(Post.Category category, Pageable pageable, String userId) {
-        Page<Post> posts;
+    /**
+     * 게시글 검색 (검색 엔진의 관련도 순)
+     */
+    public Page<PostDto.PostListResponse> searchPosts(String keyword, Pageable pageable, Long userId) {
+        Page<Long> postIds = postSearchEngine.search(keyword, pageable);
+        List<PostListProjection> posts = findListItemsInOrder(postIds.getContent());
+        
+        return new PageImpl<>(convertToPostListResponses(posts, userId, false), pageable, postIds.getTotalElements());
+    }
+    
+    /**
+     * 커서 기반 게시글 목록 조회 (전체 개수 조회 없음)
+     */
+    public PostDto.CursorResponse getPosts(Post.Category category, PostCursor cursor, int size, Long userId) {
+        List<PostListProjection> posts;
         if (category != null) {
-            posts = postRepository.findByCategory(category, pageable);
+            posts = postRepository.findListItemsByCategoryAfter(category, cursor.getCreatedAt(), cursor.getId(), cursorLimit(size));
         } else {
-            posts = postRepository.findAll(pageable);
+            posts = postRepository.findListItemsAfter(cursor.getCreatedAt(), cursor.getId(), cursorLimit(size));
         }
         
-        return posts.map(post -> {
-            boolean isScrapped = false;
-            if (userId != null) {
-                User user = userRepository.findByUserId(userId).orElse(null);
-                if (user != null) {
-                    isScrapped = scrapRepository.existsByPostIdAndUserId(post.getId(), user.getId());
-                }
-            }
-            
-            return convertToPostListResponse(post, isScrapped);
-        });
+        return toCursorResponse(posts, size, userId);
     }
     
-    public Page<PostDto.PostListResponse> searchPosts(String keyword, Pageable pageable, String userId) {
-        Page<Post> posts = postRepository.findByTitleContainingOrContentContaining(keyword, keyword, pageable);
-        
-        return posts.map(post -> {
-            boolean isScrapped = false;
-            if (userId != null) {
-                User user = userRepository.findByUserId(userId).orElse(null);
-                if (user != null) {
-                    isScrapped = scrapRepository.existsByPostIdAndUserId(post.getId(), user.getId());
-                }
-            }
-            
-            return convertToPostListResponse(post, isScrapped);
-        });
+    /**
+     * 커서 기반 게시글 검색
+     */
+    public PostDto.CursorResponse searchPosts(String keyword, PostCursor cursor, int size, Long userId) {
+        List<PostListProjection> posts = findListItemsInOrder(postSearchEngine.searchAfter(keyword, cursor, size + 1));
+        
+        return toCursorResponse(posts, size, userId);
     }
     
-    public PostDto.PostResponse updatePost(Long postId, String userId, PostDto.UpdateRequest request) {
+    @Transactional
+    public PostDto.PostResponse updatePost(Long postId, Long userId, PostDto.UpdateRequest request) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
         
-        // 작성자 확인
-        if (!post.getAuthor().getUserId().equals(userId)) {
+        // 작성자 확인 (지연 로딩 프록시의 ID 만 비교하므로 사용자 조회 없음)
+        if (!post.getAuthor().getId().equals(userId)) {
             throw new RuntimeException("게시글을 수정할 권한이 없습니다.");
         }
         
@@ -150,112 +201,158 @@ public class PostService {
         post.setContent(request.getContent());
         post.setCategory(request.getCategory());
         
-        // 기존 파일 목록 삭제
+        // 기존 파일 목록 삭제 (이 게시글에 이미 첨부되어 있던 파일은 다시 첨부 가능)
+        Set<String> attachedFileNames = postFileRepository.findByPostId(postId).stream()
+                .map(PostFile::getStoredFileName)
+                .collect(Collectors.toSet());
         postFileRepository.deleteByPostId(postId);
         
         // 새로운 파일 정보 저장
-        if (request.getFileUrls() != null && !request.getFileUrls().isEmpty()) {
-            for (String fileUrl : request.getFileUrls()) {
-                if (fileUrl != null && !fileUrl.trim().isEmpty()) {
-                    // 파일명 추출
-                    String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
-                    
-                    PostFile postFile = PostFile.builder()
-                            .originalFileName(fileName)
-                            .storedFileName(fileName)
-                            .fileUrl(fileUrl)
-                            .fileSize(0L) // 실제 파일 크기는 추후 구현
-                            .contentType("application/octet-stream") // 기본 타입
-                            .postId(post.getId())
-                            .build();
-                    
-                    postFileRepository.save(postFile);
-                }
-            }
-        }
+        savePostFiles(post.getId(), userId, request.getFileUrls(), attachedFileNames);
         
         Post updatedPost = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.updated(updatedPost));
         
         return convertToPostResponse(updatedPost, false);
     }
     
-    public void deletePost(Long postId, String userId) {
+    @Transactional
+    public void deletePost(Long postId, Long userId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
         
         // 작성자 확인
-        if (!post.getAuthor().getUserId().equals(userId)) {
+        if (!post.getAuthor().getId().equals(userId)) {
             throw new RuntimeException("게시글을 삭제할 권한이 없습니다.");
         }
         
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(post));
     }
     
     /**
      * 스크랩 토글
      */
-    public Map<String, Object> toggleScrap(Long postId, String userId) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
+    @Transactional
+    public Map<String, Object> toggleScrap(Long postId, Long userId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
         
         boolean isScrapped;
-        if (scrapRepository.existsByPostIdAndUserId(postId, user.getId())) {
-            scrapRepository.findByPostIdAndUserId(postId, user.getId())
-                    .ifPresent(scrapRepository::delete);
+        int delta;
+        Optional<Scrap> existingScrap = scrapRepository.findByPostIdAndUserId(postId, userId);
+        if (existingScrap.isPresent()) {
+            scrapRepository.delete(existingScrap.get());
             isScrapped = false;
+            delta = -1;
         } else {
             Scrap scrap = Scrap.builder()
                     .post(post)
-                    .user(user)
+                    .user(userRepository.getReferenceById(userId))
                     .build();
             scrapRepository.save(scrap);
             isScrapped = true;
+            delta = 1;
         }
         
-        int scrapCount = scrapRepository.countByPostId(postId);
+        // 스크랩 수는 게시글 행에서 원자적으로 증감
+        postRepository.addScrapCount(postId, delta);
+        eventPublisher.publishEvent(PostChangedEvent.scrapChanged(post));
+        Integer scrapCount = postRepository.findScrapCountById(postId);
         
         Map<String, Object> result = new HashMap<>();
         result.put("isScrapped", isScrapped);
-        result.put("scrapCount", scrapCount);
+        result.put("scrapCount", scrapCount != null ? scrapCount : 0);
         
         return result;
     }
     
-    public Page<PostDto.PostListResponse> getScrappedPosts(String userId, Pageable pageable) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    public Page<PostDto.PostListResponse> getScrappedPosts(Long userId, Pageable pageable) {
+        Page<ScrappedPostProjection> scraps = scrapRepository.findScrappedPosts(userId, pageable);
         
-        Page<Scrap> scraps = scrapRepository.findByUser(user, pageable);
+        return new PageImpl<>(convertToPostListResponses(scraps.getContent(), userId, true), scraps.getPageable(), scraps.getTotalElements());
+    }
+    
+    /**
+     * 커서 기반 스크랩 목록 조회 (커서는 스크랩 시점 기준)
+     */
+    public PostDto.CursorResponse getScrappedPosts(Long userId, PostCursor cursor, int size) {
+        List<ScrappedPostProjection> scraps = scrapRepository.findScrappedPostsAfter(userId, cursor.getCreatedAt(), cursor.getId(), cursorLimit(size));
+        boolean hasNext = scraps.size() > size;
+        if (hasNext) {
+            scraps = scraps.subList(0, size);
+        }
         
-        return scraps.map(scrap -> convertToPostListResponse(scrap.getPost(), true));
+        ScrappedPostProjection last = hasNext ? scraps.get(scraps.size() - 1) : null;
+        
+        return PostDto.CursorResponse.builder()
+                .content(convertToPostListResponses(scraps, userId, true))
+                .size(scraps.size())
+                .hasNext(hasNext)
+                .nextCursor(last != null ? new PostCursor(last.getScrappedAt(), last.getScrapId()).encode() : null)
+                .build();
     }
     
-    public List<Long> getScrappedPostIds(String userId) {
-        User user = userRepository.findByUserId(userId)
+    public List<Long> getScrappedPostIds(Long userId) {
+        return scrapRepository.findPostIdsByUserId(userId);
+    }
+    
+    public Page<PostDto.PostListResponse> getUserPosts(String userId, Pageable pageable) {
+        UserIdentity user = userIdentityCache.find(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
-        return scrapRepository.findByUser(user, Pageable.unpaged())
-                .getContent()
-                .stream()
-                .map(scrap -> scrap.getPost().getId())
-                .collect(Collectors.toList());
+        Page<PostListProjection> posts = postRepository.findListItemsByAuthor(user.getId(), pageable);
+        
+        return toPostListPage(posts, null);
     }
     
-    public Page<PostDto.PostListResponse> getUserPosts(String userId, Pageable pageable) {
-        User user = userRepository.findByUserId(userId)
+    /**
+     * 커서 기반 사용자 게시글 목록 조회
+     */
+    public PostDto.CursorResponse getUserPosts(String userId, PostCursor cursor, int size) {
+        UserIdentity user = userIdentityCache.find(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
-        Page<Post> posts = postRepository.findByAuthor(user, pageable);
+        List<PostListProjection> posts = postRepository.findListItemsByAuthorAfter(user.getId(), cursor.getCreatedAt(), cursor.getId(), cursorLimit(size));
         
-        return posts.map(post -> convertToPostListResponse(post, false));
+        return toCursorResponse(posts, size, null);
     }
     
-    private PostDto.PostResponse convertToPostResponse(Post post, boolean isScrapped) {
-        long commentCount = commentRepository.countByPostId(post.getId());
+    /**
+     * 첨부파일 정보 저장 (크기, 콘텐츠 타입, 체크섬은 업로드 시 저장소에 기록된 값 사용)
+     * 작성자 본인의 첨부 전 업로드나 이 게시글에 원래 첨부되어 있던 파일만 첨부할 수 있다.
+     */
+    private void savePostFiles(Long postId, Long authorId, List<String> fileUrls, Set<String> attachedFileNames) {
+        if (fileUrls == null || fileUrls.isEmpty()) {
+            return;
+        }
         
+        for (String fileUrl : fileUrls) {
+            if (fileUrl != null && !fileUrl.trim().isEmpty()) {
+                String fileName = fileService.extractStoredFileName(fileUrl);
+                if (!attachedFileNames.contains(fileName)
+                        && (postFileRepository.existsByStoredFileName(fileName)
+                            || !fileService.claimPendingUpload(fileName, authorId))) {
+                    throw new RuntimeException("첨부할 수 없는 파일입니다.");
+                }
+                Optional<StoredFile> storedFile = fileService.findFile(fileUrl);
+                
+                PostFile postFile = PostFile.builder()
+                        .originalFileName(storedFile.map(StoredFile::getOriginalFileName).orElse(fileName))
+                        .storedFileName(fileName)
+                        .fileUrl(fileUrl)
+                        .fileSize(storedFile.map(StoredFile::getFileSize).orElse(0L))
+                        .contentType(storedFile.map(StoredFile::getContentType).orElse("application/octet-stream"))
+                        .checksum(storedFile.map(StoredFile::getChecksum).orElse(null))
+                        .postId(postId)
+                        .build();
+                
+                postFileRepository.save(postFile);
+            }
+        }
+    }
+    
+    private PostDto.PostResponse convertToPostResponse(Post post, boolean isScrapped) {
         return PostDto.PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
@@ -265,8 +362,8 @@ public class PostService {
                 .category(post.getCategory())
                 .categoryName(post.getCategory() != null ? post.getCategory().getDisplayName() : "")
                 .viewCount(post.getViewCount() != null ? post.getViewCount() : 0)
-                .scrapCount(post.getScraps() != null ? post.getScraps().size() : 0)
-                .commentCount(commentCount)
+                .scrapCount(post.getScrapCount() != null ? post.getScrapCount() : 0)
+                .commentCount(post.getCommentCount() != null ? post.getCommentCount().longValue() : 0L)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .fileUrls(postFileRepository.findByPostId(post.getId()).stream()
@@ -276,21 +373,81 @@ public class PostService {
                 .build();
     }
     
-    private PostDto.PostListResponse convertToPostListResponse(Post post, boolean isScrapped) {
-        // 댓글 수 조회
-        long commentCount = commentRepository.countByPostId(post.getId());
+    private Page<PostDto.PostListResponse> toPostListPage(Page<PostListProjection> posts, Long viewerId) {
+        return new PageImpl<>(convertToPostListResponses(posts.getContent(), viewerId, false), posts.getPageable(), posts.getTotalElements());
+    }
+    
+    /**
+     * ID 목록 순서를 유지하여 목록 행 조회 (삭제된 게시글은 제외)
+     */
+    private List<PostListProjection> findListItemsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Map<Long, PostListProjection> postsById = postRepository.findListItemsByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostListProjection::getId, Function.identity()));
+        
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    private Pageable cursorLimit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+    
+    private PostDto.CursorResponse toCursorResponse(List<PostListProjection> posts, int size, Long viewerId) {
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
         
-        return PostDto.PostListResponse.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .authorName(post.getAuthor() != null ? post.getAuthor().getName() : "알 수 없음")
-                .category(post.getCategory())
-                .categoryName(post.getCategory() != null ? post.getCategory().getDisplayName() : "")
-                .viewCount(post.getViewCount() != null ? post.getViewCount() : 0)
-                .scrapCount(post.getScraps() != null ? post.getScraps().size() : 0)
-                .commentCount(commentCount)
-                .createdAt(post.getCreatedAt())
-                .isScrapped(isScrapped)
+        PostListProjection last = hasNext ? posts.get(posts.size() - 1) : null;
+        
+        return PostDto.CursorResponse.builder()
+                .content(convertToPostListResponses(posts, viewerId, false))
+                .size(posts.size())
+                .hasNext(hasNext)
+                .nextCursor(last != null ? new PostCursor(last.getCreatedAt(), last.getId()).encode() : null)
                 .build();
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 게시글 목록 응답 변환
+     * 목록 행은 필요한 컬럼만 조회한 프로젝션이며, 요청자의 스크랩 여부만 게시글 ID 묶음으로 한 번 더 조회한다.
+     * (allScrapped 가 true 이면 스크랩 목록이므로 추가 조회 없이 모두 스크랩된 것으로 처리)
+     */
+    private List<PostDto.PostListResponse> convertToPostListResponses(List<? extends PostListProjection> posts, Long viewerId, boolean allScrapped) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Set<Long> scrappedPostIds;
+        if (allScrapped || viewerId == null) {
+            scrappedPostIds = Collections.emptySet();
+        } else {
+            List<Long> postIds = posts.stream()
+                    .map(PostListProjection::getId)
+                    .collect(Collectors.toList());
+            scrappedPostIds = new HashSet<>(scrapRepository.findScrappedPostIds(viewerId, postIds));
+        }
+        
+        return posts.stream()
+                .map(post -> PostDto.PostListResponse.builder()
+                        .id(post.getId())
+                        .title(post.getTitle())
+                        .authorName(post.getAuthorName() != null ? post.getAuthorName() : "알 수 없음")
+                        .category(post.getCategory())
+                        .categoryName(post.getCategory() != null ? post.getCategory().getDisplayName() : "")
+                        .viewCount(post.getViewCount() != null ? post.getViewCount() : 0)
+                        .scrapCount(post.getScrapCount() != null ? post.getScrapCount() : 0)
+                        .commentCount(post.getCommentCount() != null ? post.getCommentCount().longValue() : 0L)
+                        .createdAt(post.getCreatedAt())
+                        .isScrapped(allScrapped || scrappedPostIds.contains(post.getId()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
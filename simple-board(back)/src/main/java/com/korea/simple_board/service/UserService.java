@@ -2,29 +2,39 @@ package com.korea.simple_board.service;
 
 import com.korea.simple_board.dto.UserDto;
 import com.korea.simple_board.entity.User;
+import com.korea.simple_board.event.UserChangedEvent;
 import com.korea.simple_board.repository.UserRepository;
+import com.korea.simple_board.security.JwtTokenProvider;
+import com.korea.simple_board.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
+/**
+ * 비밀번호 해시/검증이 필요한 메서드는 트랜잭션 없이 실행한다.
+ * BCrypt 대기열을 기다리는 동안 DB 커넥션을 잡지 않도록, 조회와 저장만 짧은 트랜잭션으로 나눈다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
+@Transactional(readOnly = true)
 public class UserService implements UserDetailsService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final JavaMailSender mailSender;
+    private final PasswordHasher passwordHasher;
+    private final MailOutboxService mailOutboxService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
     
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
@@ -32,6 +42,7 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDto.UserInfoResponse signup(UserDto.SignupRequest request) {
         // 중복 검사
         if (userRepository.existsByUserId(request.getUserId())) {
@@ -42,10 +53,11 @@ public class UserService implements UserDetailsService {
             throw new RuntimeException("이미 존재하는 이메일입니다.");
         }
         
-        // 사용자 생성
+        // 사용자 생성 (동시 가입으로 인한 중복은 users 의 유니크 제약이 막음)
+        String encodedPassword = passwordHasher.encode(request.getPassword());
         User user = User.builder()
                 .userId(request.getUserId())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .email(request.getEmail())
                 .name(request.getName())
                 .role(User.Role.USER)
@@ -70,6 +82,7 @@ public class UserService implements UserDetailsService {
         return !userRepository.existsByEmail(email);
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean checkPassword(String userId, String password) {
         User user = userRepository.findByUserId(userId)
                 .orElse(null);
@@ -78,27 +91,36 @@ public class UserService implements UserDetailsService {
             return false;
         }
         
-        return passwordEncoder.matches(password, user.getPassword());
+        return passwordHasher.matches(password, user.getPassword());
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDto.LoginResponse login(UserDto.LoginRequest request) {
         User user = userRepository.findByUserId(request.getUserId())
                 .orElseThrow(() -> new RuntimeException("아이디 또는 비밀번호가 잘못되었습니다."));
         
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new RuntimeException("아이디 또는 비밀번호가 잘못되었습니다.");
         }
         
+        // BCrypt cost 설정이 바뀐 경우 로그인 시점에 새 cost 로 다시 해시
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            String rehashed = passwordHasher.encode(request.getPassword());
+            transactionTemplate.executeWithoutResult(status -> userRepository.findById(user.getId())
+                    .ifPresent(managed -> managed.setPassword(rehashed)));
+            passwordHasher.recordRehash();
+        }
+        
         return UserDto.LoginResponse.builder()
-                .token("dummy-token-" + System.currentTimeMillis()) // 임시 토큰 생성
+                .token(jwtTokenProvider.generateToken(user))
                 .userId(user.getUserId())
                 .name(user.getName())
                 .email(user.getEmail())
                 .build();
     }
     
-    public UserDto.UserInfoResponse getUserInfo(String userId) {
-        User user = userRepository.findByUserId(userId)
+    public UserDto.UserInfoResponse getUserInfo(Long id) {
+        User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         return UserDto.UserInfoResponse.builder()
@@ -110,35 +132,49 @@ public class UserService implements UserDetailsService {
                 .build();
     }
     
-    public UserDto.UserInfoResponse updateUserInfo(String userId, UserDto.UpdateRequest request) {
-        User user = userRepository.findByUserId(userId)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserDto.UserInfoResponse updateUserInfo(Long id, UserDto.UpdateRequest request) {
+        User current = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         // 이메일 중복 검사 (자신의 이메일 제외)
-        if (!user.getEmail().equals(request.getEmail()) && 
+        if (!current.getEmail().equals(request.getEmail()) && 
             userRepository.existsByEmail(request.getEmail())) {
             throw new RuntimeException("이미 존재하는 이메일입니다.");
         }
         
-        // 비밀번호 변경이 요청된 경우
+        // 비밀번호 변경이 요청된 경우 (검증과 해시는 트랜잭션 밖에서)
+        String newEncodedPassword = null;
         if (request.getNewPassword() != null && !request.getNewPassword().trim().isEmpty()) {
             if (request.getCurrentPassword() == null || request.getCurrentPassword().trim().isEmpty()) {
                 throw new RuntimeException("현재 비밀번호를 입력해주세요.");
             }
             
             // 현재 비밀번호 확인
-            if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+            if (!passwordHasher.matches(request.getCurrentPassword(), current.getPassword())) {
                 throw new RuntimeException("현재 비밀번호가 일치하지 않습니다.");
             }
             
-            // 새 비밀번호로 변경
-            user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+            newEncodedPassword = passwordHasher.encode(request.getNewPassword());
         }
         
-        user.setName(request.getName());
-        user.setEmail(request.getEmail());
-        
-        User updatedUser = userRepository.save(user);
+        String encodedPassword = newEncodedPassword;
+        User updatedUser = transactionTemplate.execute(status -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            
+            // 새 비밀번호로 변경
+            if (encodedPassword != null) {
+                user.setPassword(encodedPassword);
+            }
+            
+            user.setName(request.getName());
+            user.setEmail(request.getEmail());
+            
+            User saved = userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(saved.getUserId()));
+            return saved;
+        });
         
         return UserDto.UserInfoResponse.builder()
                 .id(updatedUser.getId())
@@ -149,42 +185,46 @@ public class UserService implements UserDetailsService {
                 .build();
     }
     
-    public void deleteUser(String userId) {
-        User user = userRepository.findByUserId(userId)
+    @Transactional
+    public void deleteUser(Long id) {
+        User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
     }
     
+    @Transactional
     public void findId(UserDto.FindIdRequest request) {
         User user = userRepository.findByEmailAndName(request.getEmail(), request.getName())
                 .orElseThrow(() -> new RuntimeException("일치하는 정보가 없습니다."));
         
-        // 이메일 발송
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(request.getEmail());
-        message.setSubject("[Simple Board] 아이디 찾기");
-        message.setText("회원님의 아이디는 " + user.getUserId() + " 입니다.");
-        
-        mailSender.send(message);
+        // 이메일 발송 (아웃박스에 저장 후 MailDispatcher 가 발송)
+        mailOutboxService.enqueue(request.getEmail(),
+                "[Simple Board] 아이디 찾기",
+                "회원님의 아이디는 " + user.getUserId() + " 입니다.");
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void findPassword(UserDto.FindPasswordRequest request) {
-        User user = userRepository.findByUserIdAndEmail(request.getUserId(), request.getEmail())
+        User found = userRepository.findByUserIdAndEmail(request.getUserId(), request.getEmail())
                 .orElseThrow(() -> new RuntimeException("일치하는 정보가 없습니다."));
         
         // 임시 비밀번호 생성
         String tempPassword = generateTempPassword();
-        user.setPassword(passwordEncoder.encode(tempPassword));
-        userRepository.save(user);
-        
-        // 이메일 발송
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(request.getEmail());
-        message.setSubject("[Simple Board] 임시 비밀번호 발급");
-        message.setText("임시 비밀번호는 " + tempPassword + " 입니다. 로그인 후 비밀번호를 변경해주세요.");
+        String encodedPassword = passwordHasher.encode(tempPassword);
         
-        mailSender.send(message);
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(found.getId())
+                    .orElseThrow(() -> new RuntimeException("일치하는 정보가 없습니다."));
+            user.setPassword(encodedPassword);
+            eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
+            
+            // 이메일 발송 (비밀번호 변경과 같은 트랜잭션으로 아웃박스에 저장)
+            mailOutboxService.enqueue(request.getEmail(),
+                    "[Simple Board] 임시 비밀번호 발급",
+                    "임시 비밀번호는 " + tempPassword + " 입니다. 로그인 후 비밀번호를 변경해주세요.");
+        });
     }
     
     private String generateTempPassword() {
@@ -203,6 +243,7 @@ public class UserService implements UserDetailsService {
         return user.getUserId();
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void resetPassword(String userId, String email, String newPassword) {
         User user = userRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -213,12 +254,17 @@ public class UserService implements UserDetailsService {
         }
         
         // 기존 비밀번호와 동일한지 확인
-        if (passwordEncoder.matches(newPassword, user.getPassword())) {
+        if (passwordHasher.matches(newPassword, user.getPassword())) {
             throw new RuntimeException("기존에 사용중인 비밀번호입니다.");
         }
         
-        // 새 비밀번호로 변경
-        user.setPassword(passwordEncoder.encode(newPassword));
-        userRepository.save(user);
+        // 새 비밀번호로 변경 (해시는 트랜잭션 밖에서)
+        String encodedPassword = passwordHasher.encode(newPassword);
+        transactionTemplate.executeWithoutResult(status -> {
+            User managed = userRepository.findById(user.getId())
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            managed.setPassword(encodedPassword);
+            eventPublisher.publishEvent(new UserChangedEvent(managed.getUserId()));
+        });
     }
 } 
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.korea.simple_board.service;
+
+import com.korea.simple_board.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 쓰기 지연 버퍼
+ * 게시글 조회 시 DB 를 갱신하지 않고 메모리에 누적한 뒤,
+ * 주기적으로 (그리고 종료 시) 증가분을 모아 한 번에 반영한다.
+ * 반영할 때 게시글별 증가분을 버퍼에서 꺼내므로 버퍼에는 아직 반영되지 않은 게시글만 남는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountBuffer {
+    
+    private final PostRepository postRepository;
+    
+    // 게시글별 미반영 조회수 (증가와 꺼내기가 같은 키 잠금에서 원자적으로 실행됨)
+    private final ConcurrentHashMap<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+    
+    /**
+     * 조회수 1 증가 (메모리에만 기록)
+     */
+    public void increment(Long postId) {
+        pendingCounts.merge(postId, 1L, Long::sum);
+    }
+    
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long getPendingCount(Long postId) {
+        return pendingCounts.getOrDefault(postId, 0L);
+    }
+    
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long postId : pendingCounts.keySet()) {
+            Long delta = pendingCounts.remove(postId);
+            if (delta != null) {
+                deltas.put(postId, delta);
+            }
+        }
+        
+        if (deltas.isEmpty()) {
+            return;
+        }
+        
+        try {
+            // 한 트랜잭션으로 반영되므로 실패하면 어떤 게시글도 반영되지 않음
+            postRepository.incrementViewCounts(deltas);
+            log.debug("조회수 반영 완료 - {}개 게시글", deltas.size());
+        } catch (Exception e) {
+            // 꺼낸 증가분을 되돌려 다음 주기에 다시 시도
+            log.error("조회수 반영 중 오류 발생 - 다음 주기에 다시 시도", e);
+            deltas.forEach((postId, delta) -> pendingCounts.merge(postId, delta, Long::sum));
+        }
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,75 @@
+package com.korea.simple_board.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 읽은 바이트 수와 MD5 체크섬을 함께 계산하는 입력 스트림
+ * (MD5 는 단일 업로드 S3 객체의 ETag 와 같은 값)
+ */
+public class ChecksumInputStream extends FilterInputStream {
+    
+    private final MessageDigest digest;
+    private long byteCount;
+    
+    public ChecksumInputStream(InputStream in) {
+        super(in);
+        try {
+            this.digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            digest.update((byte) b);
+            byteCount++;
+        }
+        return b;
+    }
+    
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            digest.update(buffer, offset, read);
+            byteCount += read;
+        }
+        return read;
+    }
+    
+    @Override
+    public long skip(long n) throws IOException {
+        // 건너뛴 바이트도 체크섬에 포함되도록 직접 읽는다
+        byte[] buffer = new byte[8192];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+    
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+    
+    public long getByteCount() {
+        return byteCount;
+    }
+    
+    public String getChecksum() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
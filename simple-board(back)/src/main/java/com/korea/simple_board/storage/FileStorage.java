@@ -0,0 +1,36 @@
+package com.korea.simple_board.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * 파일 저장소
+ * board.storage.type 설정으로 구현체를 선택한다. (local: 로컬 디스크, s3: S3 호환 저장소)
+ */
+public interface FileStorage {
+    
+    /**
+     * 스트림을 메모리에 모두 올리지 않고 저장하며, 저장하면서 크기와 체크섬(MD5)을 함께 계산한다.
+     *
+     * @param contentLength 알 수 없으면 -1
+     */
+    StoredFile store(String storedFileName, InputStream content, long contentLength,
+                     String contentType, String originalFileName) throws IOException;
+    
+    /**
+     * 저장된 파일 정보 조회
+     */
+    Optional<StoredFile> find(String storedFileName) throws IOException;
+    
+    /**
+     * 다운로드용 리소스 (로컬 파일이면 FileSystemResource)
+     */
+    Resource load(String storedFileName) throws IOException;
+    
+    void delete(String storedFileName) throws IOException;
+    
+    String getFileUrl(String storedFileName);
+}
@@ -0,0 +1,163 @@
+package com.korea.simple_board.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * 로컬 디스크 파일 저장소 (기본값)
+ * 업로드 스트림을 FileChannel.transferFrom 으로 임시 파일에 기록한 뒤 최종 경로로 이동한다.
+ * 원본 파일명, 콘텐츠 타입, 체크섬은 .meta 디렉터리의 속성 파일에 함께 저장한다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.storage.type", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalFileStorage implements FileStorage {
+    
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+    private static final String METADATA_DIRECTORY = ".meta";
+    
+    private final Path directory;
+    private final Path metadataDirectory;
+    private final String publicUrl;
+    
+    public LocalFileStorage(
+            @Value("${board.storage.local.directory:./data/uploads}") String directory,
+            @Value("${board.storage.local.public-url:http://localhost:10000/api/files}") String publicUrl) throws IOException {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.metadataDirectory = this.directory.resolve(METADATA_DIRECTORY);
+        this.publicUrl = publicUrl.endsWith("/") ? publicUrl.substring(0, publicUrl.length() - 1) : publicUrl;
+        
+        Files.createDirectories(metadataDirectory);
+        log.info("로컬 파일 저장소 경로: {}", this.directory);
+    }
+    
+    @Override
+    public StoredFile store(String storedFileName, InputStream content, long contentLength,
+                            String contentType, String originalFileName) throws IOException {
+        Path target = resolve(storedFileName);
+        Path tempFile = Files.createTempFile(directory, ".upload-", ".tmp");
+        
+        ChecksumInputStream checksumStream = new ChecksumInputStream(content);
+        try (ReadableByteChannel source = Channels.newChannel(checksumStream);
+             FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        
+        Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        
+        StoredFile storedFile = StoredFile.builder()
+                .storedFileName(storedFileName)
+                .originalFileName(originalFileName)
+                .fileUrl(getFileUrl(storedFileName))
+                .fileSize(checksumStream.getByteCount())
+                .contentType(contentType)
+                .checksum(checksumStream.getChecksum())
+                .lastModified(Files.getLastModifiedTime(target).toMillis())
+                .build();
+        writeMetadata(storedFile);
+        
+        return storedFile;
+    }
+    
+    @Override
+    public Optional<StoredFile> find(String storedFileName) throws IOException {
+        Path target = resolve(storedFileName);
+        if (!Files.isRegularFile(target)) {
+            return Optional.empty();
+        }
+        
+        Properties metadata = readMetadata(storedFileName);
+        return Optional.of(StoredFile.builder()
+                .storedFileName(storedFileName)
+                .originalFileName(metadata.getProperty("originalFileName", storedFileName))
+                .fileUrl(getFileUrl(storedFileName))
+                .fileSize(Files.size(target))
+                .contentType(metadata.getProperty("contentType", "application/octet-stream"))
+                .checksum(metadata.getProperty("checksum"))
+                .lastModified(Files.getLastModifiedTime(target).toMillis())
+                .build());
+    }
+    
+    @Override
+    public Resource load(String storedFileName) {
+        return new FileSystemResource(resolve(storedFileName));
+    }
+    
+    @Override
+    public void delete(String storedFileName) throws IOException {
+        Files.deleteIfExists(resolve(storedFileName));
+        Files.deleteIfExists(metadataPath(storedFileName));
+    }
+    
+    @Override
+    public String getFileUrl(String storedFileName) {
+        return publicUrl + "/" + storedFileName;
+    }
+    
+    /**
+     * 저장소 디렉터리 밖의 경로나 메타데이터 파일을 가리키는 파일명은 거부
+     */
+    private Path resolve(String storedFileName) {
+        if (storedFileName == null || storedFileName.isEmpty() || storedFileName.startsWith(".")) {
+            throw new IllegalArgumentException("잘못된 파일명입니다.");
+        }
+        
+        Path path = directory.resolve(storedFileName).normalize();
+        if (!directory.equals(path.getParent())) {
+            throw new IllegalArgumentException("잘못된 파일명입니다.");
+        }
+        return path;
+    }
+    
+    private Path metadataPath(String storedFileName) {
+        return metadataDirectory.resolve(resolve(storedFileName).getFileName() + ".properties");
+    }
+    
+    private void writeMetadata(StoredFile storedFile) throws IOException {
+        Properties metadata = new Properties();
+        metadata.setProperty("originalFileName", storedFile.getOriginalFileName());
+        metadata.setProperty("contentType", storedFile.getContentType());
+        metadata.setProperty("checksum", storedFile.getChecksum());
+        
+        try (OutputStream out = Files.newOutputStream(metadataPath(storedFile.getStoredFileName()))) {
+            metadata.store(out, null);
+        }
+    }
+    
+    private Properties readMetadata(String storedFileName) throws IOException {
+        Properties metadata = new Properties();
+        Path path = metadataPath(storedFileName);
+        if (Files.isRegularFile(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                metadata.load(in);
+            }
+        }
+        return metadata;
+    }
+}
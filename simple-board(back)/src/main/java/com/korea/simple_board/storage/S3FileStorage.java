@@ -0,0 +1,136 @@
+package com.korea.simple_board.storage;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * S3 호환 파일 저장소 (board.storage.type=s3)
+ * board.storage.s3.endpoint 를 지정하면 MinIO 같은 S3 호환 서버(경로 방식 주소)를 사용한다.
+ * 크기를 알고 있으면 Content-Length 를 지정하여 SDK 가 스트림을 메모리에 모으지 않도록 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.storage.type", havingValue = "s3")
+public class S3FileStorage implements FileStorage {
+    
+    private static final String ORIGINAL_FILE_NAME_KEY = "original-file-name";
+    
+    private final AmazonS3 amazonS3;
+    private final String bucketName;
+    private final String fileUrlPrefix;
+    
+    public S3FileStorage(
+            @Value("${cloud.aws.credentials.access-key}") String accessKey,
+            @Value("${cloud.aws.credentials.secret-key}") String secretKey,
+            @Value("${cloud.aws.region.static}") String region,
+            @Value("${cloud.aws.s3.bucket}") String bucketName,
+            @Value("${board.storage.s3.endpoint:}") String endpoint) {
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey)));
+        
+        if (endpoint.isEmpty()) {
+            builder.withRegion(region);
+            this.fileUrlPrefix = "https://" + bucketName + ".s3." + region + ".amazonaws.com/";
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+            this.fileUrlPrefix = (endpoint.endsWith("/") ? endpoint : endpoint + "/") + bucketName + "/";
+        }
+        
+        this.amazonS3 = builder.build();
+        this.bucketName = bucketName;
+    }
+    
+    @Override
+    public StoredFile store(String storedFileName, InputStream content, long contentLength,
+                            String contentType, String originalFileName) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        if (contentLength >= 0) {
+            metadata.setContentLength(contentLength);
+        }
+        metadata.setContentType(contentType);
+        metadata.addUserMetadata(ORIGINAL_FILE_NAME_KEY, URLEncoder.encode(originalFileName, StandardCharsets.UTF_8));
+        
+        ChecksumInputStream checksumStream = new ChecksumInputStream(content);
+        try {
+            amazonS3.putObject(bucketName, storedFileName, checksumStream, metadata);
+        } catch (SdkClientException e) {
+            throw new IOException("S3 업로드 실패: " + e.getMessage(), e);
+        }
+        
+        return StoredFile.builder()
+                .storedFileName(storedFileName)
+                .originalFileName(originalFileName)
+                .fileUrl(getFileUrl(storedFileName))
+                .fileSize(checksumStream.getByteCount())
+                .contentType(contentType)
+                .checksum(checksumStream.getChecksum())
+                .lastModified(System.currentTimeMillis())
+                .build();
+    }
+    
+    @Override
+    public Optional<StoredFile> find(String storedFileName) throws IOException {
+        ObjectMetadata metadata;
+        try {
+            metadata = amazonS3.getObjectMetadata(bucketName, storedFileName);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("S3 조회 실패: " + e.getMessage(), e);
+        } catch (SdkClientException e) {
+            throw new IOException("S3 조회 실패: " + e.getMessage(), e);
+        }
+        
+        String originalFileName = metadata.getUserMetaDataOf(ORIGINAL_FILE_NAME_KEY);
+        return Optional.of(StoredFile.builder()
+                .storedFileName(storedFileName)
+                .originalFileName(originalFileName != null
+                        ? URLDecoder.decode(originalFileName, StandardCharsets.UTF_8) : storedFileName)
+                .fileUrl(getFileUrl(storedFileName))
+                .fileSize(metadata.getContentLength())
+                .contentType(metadata.getContentType())
+                // 단일 업로드 객체의 ETag 는 MD5 체크섬
+                .checksum(metadata.getETag())
+                .lastModified(metadata.getLastModified() != null ? metadata.getLastModified().getTime() : 0)
+                .build());
+    }
+    
+    @Override
+    public Resource load(String storedFileName) throws IOException {
+        // S3 객체는 저장소 URL 로 직접 내려받도록 URL 리소스로 제공
+        return new UrlResource(getFileUrl(storedFileName));
+    }
+    
+    @Override
+    public void delete(String storedFileName) throws IOException {
+        try {
+            amazonS3.deleteObject(bucketName, storedFileName);
+        } catch (SdkClientException e) {
+            throw new IOException("S3 삭제 실패: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public String getFileUrl(String storedFileName) {
+        return fileUrlPrefix + storedFileName;
+    }
+}
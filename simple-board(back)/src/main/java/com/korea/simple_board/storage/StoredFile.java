@@ -0,0 +1,22 @@
+package com.korea.simple_board.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 저장소에 저장된 파일 정보
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class StoredFile {
+    
+    private final String storedFileName;
+    private final String originalFileName;
+    private final String fileUrl;
+    private final long fileSize;
+    private final String contentType;
+    private final String checksum;
+    private final long lastModified;
+}
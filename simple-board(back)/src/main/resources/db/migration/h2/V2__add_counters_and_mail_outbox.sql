@@ -0,0 +1,26 @@
+-- 게시글 댓글/스크랩 수 집계 컬럼, 첨부파일 체크섬, 메일 아웃박스 테이블 추가
+-- ddl-auto: update 로 이미 일부가 만들어진 DB 도 있으므로 IF NOT EXISTS 사용
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS comment_count INT DEFAULT 0;
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS scrap_count INT DEFAULT 0;
+
+-- 기존 게시글의 집계 값을 실제 댓글/스크랩 수로 채움
+UPDATE posts p SET
+    comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id),
+    scrap_count = (SELECT COUNT(*) FROM scraps s WHERE s.post_id = p.id);
+
+ALTER TABLE post_files ADD COLUMN IF NOT EXISTS checksum VARCHAR(32);
+
+CREATE TABLE IF NOT EXISTS mail_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    claim_token VARCHAR(36),
+    last_error VARCHAR(500),
+    created_at TIMESTAMP(6),
+    sent_at TIMESTAMP(6)
+);
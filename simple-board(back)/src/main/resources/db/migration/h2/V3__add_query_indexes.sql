@@ -0,0 +1,21 @@
+-- 목록/커서 조회 패턴별 보조 인덱스 (엔티티의 @Table(indexes) 와 동일하게 유지)
+-- ddl-auto 로 일부 인덱스가 이미 만들어진 DB 도 있으므로 IF NOT EXISTS 사용
+-- 중복 스크랩이 남아 있으면 uk_scraps_post_user 생성이 실패하므로 먼저 정리한다
+
+DELETE FROM scraps s1
+WHERE EXISTS (SELECT 1 FROM scraps s2 WHERE s2.post_id = s1.post_id AND s2.user_id = s1.user_id AND s2.id < s1.id);
+
+CREATE INDEX IF NOT EXISTS idx_posts_created ON posts (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_posts_category_created ON posts (category, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_posts_user_created ON posts (user_id, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_comments_post_created ON comments (post_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_comments_user_created ON comments (user_id, created_at, id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_scraps_post_user ON scraps (post_id, user_id);
+CREATE INDEX IF NOT EXISTS idx_scraps_user_created ON scraps (user_id, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_post_files_post ON post_files (post_id);
+
+CREATE INDEX IF NOT EXISTS idx_mail_outbox_status_next_attempt ON mail_outbox (status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_mail_outbox_claim_token ON mail_outbox (claim_token);
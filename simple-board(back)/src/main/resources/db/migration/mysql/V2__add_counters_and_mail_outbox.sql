@@ -0,0 +1,43 @@
+-- 게시글 댓글/스크랩 수 집계 컬럼, 첨부파일 체크섬, 메일 아웃박스 테이블 추가
+-- ddl-auto: update 로 이미 일부가 만들어진 DB 도 있으므로 information_schema 로 확인 후 추가
+-- (MySQL 은 ADD COLUMN IF NOT EXISTS 를 지원하지 않음)
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE posts ADD COLUMN comment_count INT DEFAULT 0', 'DO 0')
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'posts' AND column_name = 'comment_count');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE posts ADD COLUMN scrap_count INT DEFAULT 0', 'DO 0')
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'posts' AND column_name = 'scrap_count');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 기존 게시글의 집계 값을 실제 댓글/스크랩 수로 채움
+UPDATE posts p SET
+    comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id),
+    scrap_count = (SELECT COUNT(*) FROM scraps s WHERE s.post_id = p.id);
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE post_files ADD COLUMN checksum VARCHAR(32)', 'DO 0')
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'post_files' AND column_name = 'checksum');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+CREATE TABLE IF NOT EXISTS mail_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    claim_token VARCHAR(36),
+    last_error VARCHAR(500),
+    created_at DATETIME(6),
+    sent_at DATETIME(6)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
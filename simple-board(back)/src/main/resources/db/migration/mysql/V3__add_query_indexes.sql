@@ -0,0 +1,77 @@
+-- 목록/커서 조회 패턴별 보조 인덱스 (엔티티의 @Table(indexes) 와 동일하게 유지)
+-- ddl-auto: update 로 같은 이름의 인덱스가 이미 만들어진 DB 도 있으므로 information_schema 로 확인 후 생성
+-- (MySQL 은 CREATE INDEX IF NOT EXISTS 를 지원하지 않음)
+-- 중복 스크랩이 남아 있으면 uk_scraps_post_user 생성이 실패하므로 먼저 정리한다
+
+DELETE s1 FROM scraps s1
+    JOIN scraps s2 ON s1.post_id = s2.post_id AND s1.user_id = s2.user_id AND s1.id > s2.id;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_posts_created ON posts (created_at, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'posts' AND index_name = 'idx_posts_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_posts_category_created ON posts (category, created_at, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'posts' AND index_name = 'idx_posts_category_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_posts_user_created ON posts (user_id, created_at, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'posts' AND index_name = 'idx_posts_user_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_comments_post_created ON comments (post_id, created_at, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'comments' AND index_name = 'idx_comments_post_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_comments_user_created ON comments (user_id, created_at, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'comments' AND index_name = 'idx_comments_user_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE UNIQUE INDEX uk_scraps_post_user ON scraps (post_id, user_id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'scraps' AND index_name = 'uk_scraps_post_user');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_scraps_user_created ON scraps (user_id, created_at, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'scraps' AND index_name = 'idx_scraps_user_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_post_files_post ON post_files (post_id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'post_files' AND index_name = 'idx_post_files_post');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_mail_outbox_status_next_attempt ON mail_outbox (status, next_attempt_at)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'mail_outbox' AND index_name = 'idx_mail_outbox_status_next_attempt');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_mail_outbox_claim_token ON mail_outbox (claim_token)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'mail_outbox' AND index_name = 'idx_mail_outbox_claim_token');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,75 @@
+package com.korea.simple_board.cache;
+
+import com.korea.simple_board.dto.PostDto;
+import com.korea.simple_board.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostDetailCacheTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    private final PostDetailCache postDetailCache = new PostDetailCache(meterRegistry, 100, 600);
+    
+    @Test
+    void valueLoadedAcrossEvictionIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        
+        // 로드 도중 게시글이 수정되어 항목이 제거된 상황
+        postDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            postDetailCache.evict(id);
+            return response(id, "writer", "이전 이름");
+        });
+        PostDto.PostResponse reloaded = postDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return response(id, "writer", "새 이름");
+        });
+        
+        assertThat(loads).hasValue(2);
+        assertThat(reloaded.getAuthorName()).isEqualTo("새 이름");
+    }
+    
+    @Test
+    void userChangeEvictsOnlyThatAuthorsPosts() {
+        postDetailCache.get(1L, id -> response(id, "writer", "작성자"));
+        postDetailCache.get(2L, id -> response(id, "other", "다른 작성자"));
+        
+        postDetailCache.onUserChanged(new UserChangedEvent("writer"));
+        
+        AtomicInteger loads = new AtomicInteger();
+        postDetailCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return response(id, "writer", "바뀐 이름");
+        });
+        postDetailCache.get(2L, id -> {
+            loads.incrementAndGet();
+            return response(id, "other", "다른 작성자");
+        });
+        
+        assertThat(loads).hasValue(1);
+    }
+    
+    @Test
+    void hitsAndMissesAreExposedAsMeters() {
+        postDetailCache.get(1L, id -> response(id, "writer", "작성자"));
+        postDetailCache.get(1L, id -> response(id, "writer", "작성자"));
+        
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "postDetail").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "postDetail").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+    
+    private PostDto.PostResponse response(Long id, String authorUserId, String authorName) {
+        return PostDto.PostResponse.builder()
+                .id(id)
+                .authorUserId(authorUserId)
+                .authorName(authorName)
+                .build();
+    }
+}
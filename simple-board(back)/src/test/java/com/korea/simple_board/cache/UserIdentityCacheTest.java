@@ -0,0 +1,54 @@
+package com.korea.simple_board.cache;
+
+import com.korea.simple_board.dto.UserIdentity;
+import com.korea.simple_board.entity.User;
+import com.korea.simple_board.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserIdentityCacheTest {
+    
+    private final UserRepository userRepository = mock(UserRepository.class);
+    
+    private final UserIdentityCache userIdentityCache = new UserIdentityCache(userRepository, new SimpleMeterRegistry(), 100, 300);
+    
+    @Test
+    void valueLoadedAcrossEvictionIsNotCached() {
+        // 조회 도중 사용자 정보가 바뀌어 항목이 제거된 상황
+        when(userRepository.findIdentityByUserId("writer")).thenAnswer(invocation -> {
+            userIdentityCache.evict("writer");
+            return Optional.of(identity("이전 이름"));
+        }).thenReturn(Optional.of(identity("새 이름")));
+        
+        userIdentityCache.find("writer");
+        Optional<UserIdentity> reloaded = userIdentityCache.find("writer");
+        
+        verify(userRepository, times(2)).findIdentityByUserId("writer");
+        assertThat(reloaded).map(UserIdentity::getName).contains("새 이름");
+    }
+    
+    @Test
+    void loadedValueIsCachedUntilEvicted() {
+        when(userRepository.findIdentityByUserId("writer")).thenReturn(Optional.of(identity("작성자")));
+        
+        userIdentityCache.find("writer");
+        userIdentityCache.find("writer");
+        verify(userRepository, times(1)).findIdentityByUserId("writer");
+        
+        userIdentityCache.evict("writer");
+        userIdentityCache.find("writer");
+        verify(userRepository, times(2)).findIdentityByUserId("writer");
+    }
+    
+    private UserIdentity identity(String name) {
+        return new UserIdentity(1L, "writer", name, User.Role.USER);
+    }
+}
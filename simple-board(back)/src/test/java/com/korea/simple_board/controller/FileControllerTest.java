@@ -0,0 +1,138 @@
+package com.korea.simple_board.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.korea.simple_board.entity.User;
+import com.korea.simple_board.security.JwtTokenProvider;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "board.storage.local.directory=./build/test-uploads")
+@AutoConfigureMockMvc
+@Transactional
+class FileControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    
+    private String uploaderToken;
+    
+    private String otherToken;
+    
+    @BeforeEach
+    void setUp() {
+        uploaderToken = jwtTokenProvider.generateToken(saveUser("file-uploader"));
+        otherToken = jwtTokenProvider.generateToken(saveUser("file-other"));
+        entityManager.flush();
+    }
+    
+    @Test
+    void uploadAndDeleteRequireAuthentication() throws Exception {
+        mockMvc.perform(multipart("/files/upload").file(textFile()))
+                .andExpect(status().isUnauthorized());
+    
+        mockMvc.perform(delete("/files/delete").param("fileUrl", "http://localhost/api/files/any.txt"))
+                .andExpect(status().isUnauthorized());
+    }
+    
+    @Test
+    void onlyUploaderCanDeletePendingUpload() throws Exception {
+        String fileUrl = upload(uploaderToken);
+    
+        mockMvc.perform(delete("/files/delete").param("fileUrl", fileUrl)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + otherToken))
+                .andExpect(status().isBadRequest());
+    
+        mockMvc.perform(delete("/files/delete").param("fileUrl", fileUrl)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + uploaderToken))
+                .andExpect(status().isOk());
+    }
+    
+    @Test
+    void filesCanOnlyBeAttachedByTheirUploaderOnce() throws Exception {
+        String fileUrl = upload(uploaderToken);
+        
+        // 다른 사용자는 남의 업로드를 자기 게시글에 첨부할 수 없음
+        createPost(otherToken, fileUrl).andExpect(status().isBadRequest());
+        
+        createPost(uploaderToken, fileUrl).andExpect(status().isOk());
+        
+        // 이미 첨부된 파일은 다시 첨부할 수 없고, 게시글 작성자가 아니면 삭제할 수 없음
+        createPost(uploaderToken, fileUrl).andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/files/delete").param("fileUrl", fileUrl)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + otherToken))
+                .andExpect(status().isBadRequest());
+        
+        mockMvc.perform(delete("/files/delete").param("fileUrl", fileUrl)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + uploaderToken))
+                .andExpect(status().isOk());
+    }
+    
+    @Test
+    void nonAllowListedTypesAreDownloadedAsAttachment() throws Exception {
+        String fileUrl = upload(uploaderToken);
+        String storedFileName = fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
+        
+        mockMvc.perform(get("/files/" + storedFileName))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment")))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/octet-stream"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"));
+    }
+    
+    private String upload(String token) throws Exception {
+        String body = mockMvc.perform(multipart("/files/upload").file(textFile())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.fileUrl");
+    }
+    
+    private ResultActions createPost(String token, String fileUrl) throws Exception {
+        return mockMvc.perform(post("/posts")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"첨부 게시글\",\"content\":\"내용\",\"category\":\"QNA\",\"fileUrls\":[\"" + fileUrl + "\"]}"));
+    }
+    
+    private MockMultipartFile textFile() {
+        return new MockMultipartFile("file", "note.txt", "text/plain", "첨부 내용".getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private User saveUser(String userId) {
+        User user = User.builder()
+                .userId(userId)
+                .password("password")
+                .email(userId + "@example.com")
+                .name(userId)
+                .role(User.Role.USER)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,48 @@
+package com.korea.simple_board.controller;
+
+import com.korea.simple_board.security.PasswordHashingBusyException;
+import com.korea.simple_board.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class PasswordHashingBusyHandlerTest {
+    
+    private final UserService userService = mock(UserService.class);
+    
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AuthController(userService))
+            .setControllerAdvice(new PasswordHashingBusyHandler())
+            .build();
+    
+    @Test
+    void busyHasherRespondsWithTooManyRequests() throws Exception {
+        when(userService.login(any())).thenThrow(new PasswordHashingBusyException());
+        
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"user\",\"password\":\"password\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+    
+    @Test
+    void otherErrorsStillRespondWithBadRequest() throws Exception {
+        when(userService.login(any())).thenThrow(new RuntimeException("비밀번호가 일치하지 않습니다."));
+        
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"user\",\"password\":\"wrong\"}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,124 @@
+package com.korea.simple_board.controller;
+
+import com.korea.simple_board.cache.PostListVersions;
+import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.entity.User;
+import com.korea.simple_board.event.PostChangedEvent;
+import com.korea.simple_board.event.UserChangedEvent;
+import com.korea.simple_board.security.JwtTokenProvider;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class PostConditionalRequestTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    
+    @Autowired
+    private PostListVersions postListVersions;
+    
+    private Post post;
+    
+    private User writer;
+    
+    @BeforeEach
+    void setUp() {
+        writer = User.builder()
+                .userId("etag-writer")
+                .password("password")
+                .email("etag-writer@example.com")
+                .name("etag-writer")
+                .role(User.Role.USER)
+                .build();
+        entityManager.persist(writer);
+        
+        post = Post.builder()
+                .title("ETag 게시글")
+                .content("내용")
+                .author(writer)
+                .category(Post.Category.QNA)
+                .viewCount(0)
+                .build();
+        entityManager.persist(post);
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @Test
+    void postListReturnsNotModifiedUntilCategoryVersionChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/posts").param("category", "QNA"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("W/");
+        
+        mockMvc.perform(get("/posts").param("category", "QNA").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        
+        // 다른 카테고리의 변경은 이 목록의 ETag 를 바꾸지 않음
+        postListVersions.increment(Post.Category.DEV);
+        mockMvc.perform(get("/posts").param("category", "QNA").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        
+        postListVersions.onPostChanged(PostChangedEvent.scrapChanged(post));
+        mockMvc.perform(get("/posts").param("category", "QNA").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+    
+    @Test
+    void postListETagChangesWhenAuthorInfoChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/posts").param("category", "QNA"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        // 목록에 작성자 이름이 보이므로 사용자 정보 변경도 목록 버전을 올림
+        postListVersions.onUserChanged(new UserChangedEvent(writer.getUserId()));
+        mockMvc.perform(get("/posts").param("category", "QNA").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+    
+    @Test
+    void postDetailReturnsNotModifiedForSameVersionAndViewer() throws Exception {
+        String eTag = mockMvc.perform(get("/posts/{postId}", post.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        mockMvc.perform(get("/posts/{postId}", post.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        
+        // 로그인 사용자의 응답은 스크랩 여부가 달라지므로 다른 ETag 와 private 캐시 정책
+        mockMvc.perform(get("/posts/{postId}", post.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenProvider.generateToken(writer)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")));
+        
+        entityManager.createQuery("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+                .setParameter("id", post.getId())
+                .executeUpdate();
+        mockMvc.perform(get("/posts/{postId}", post.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+}
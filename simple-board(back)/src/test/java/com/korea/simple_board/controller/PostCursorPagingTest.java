@@ -0,0 +1,122 @@
+package com.korea.simple_board.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class PostCursorPagingTest {
+    
+    private static final String AUTHOR = "cursor-writer";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    private final List<Long> postIds = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        User writer = User.builder()
+                .userId(AUTHOR)
+                .password("password")
+                .email(AUTHOR + "@example.com")
+                .name(AUTHOR)
+                .role(User.Role.USER)
+                .build();
+        entityManager.persist(writer);
+        
+        for (int i = 0; i < 7; i++) {
+            Post post = Post.builder()
+                    .title("커서 게시글 " + i)
+                    .content("내용")
+                    .author(writer)
+                    .category(Post.Category.QNA)
+                    .viewCount(0)
+                    .build();
+            entityManager.persist(post);
+            postIds.add(post.getId());
+        }
+        entityManager.flush();
+        
+        // 앞의 다섯 개는 작성 시각이 같아 id 로만 순서가 정해짐
+        LocalDateTime sameTime = LocalDateTime.of(2025, 1, 1, 12, 0);
+        entityManager.createNativeQuery("UPDATE posts SET created_at = ? WHERE id IN (?, ?, ?, ?, ?)")
+                .setParameter(1, sameTime)
+                .setParameter(2, postIds.get(0))
+                .setParameter(3, postIds.get(1))
+                .setParameter(4, postIds.get(2))
+                .setParameter(5, postIds.get(3))
+                .setParameter(6, postIds.get(4))
+                .executeUpdate();
+        entityManager.clear();
+    }
+    
+    @Test
+    void pagesContinueWithoutGapsOrDuplicatesAcrossEqualCreatedAt() throws Exception {
+        List<Long> fetched = new ArrayList<>();
+        String after = "";
+        boolean hasNext = true;
+        while (hasNext) {
+            String body = mockMvc.perform(get("/posts/user/" + AUTHOR).param("after", after).param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<Number> ids = JsonPath.read(body, "$.content[*].id");
+            ids.forEach(id -> fetched.add(id.longValue()));
+            hasNext = JsonPath.read(body, "$.hasNext");
+            if (hasNext) {
+                after = JsonPath.read(body, "$.nextCursor");
+            }
+        }
+        
+        // 최신순: 나중에 쓴 두 개가 먼저, 작성 시각이 같은 다섯 개는 id 내림차순
+        List<Long> expected = new ArrayList<>(postIds.subList(5, 7));
+        expected.sort(Comparator.reverseOrder());
+        List<Long> sameTime = new ArrayList<>(postIds.subList(0, 5));
+        sameTime.sort(Comparator.reverseOrder());
+        expected.addAll(sameTime);
+        assertThat(fetched).containsExactlyElementsOf(expected);
+    }
+    
+    @Test
+    void invalidCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/posts/user/" + AUTHOR).param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("유효하지 않은 커서입니다."));
+        
+        mockMvc.perform(get("/posts").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void pageSizeOutOfRangeIsRejected() throws Exception {
+        mockMvc.perform(get("/posts").param("after", "").param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/posts/search").param("keyword", "커서").param("after", "").param("size", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/posts/user/" + AUTHOR).param("size", "101"))
+                .andExpect(status().isBadRequest());
+    }
+}
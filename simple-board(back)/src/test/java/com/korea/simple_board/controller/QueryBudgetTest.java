@@ -0,0 +1,156 @@
+package com.korea.simple_board.controller;
+
+import com.korea.simple_board.entity.Comment;
+import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.entity.PostFile;
+import com.korea.simple_board.entity.Scrap;
+import com.korea.simple_board.entity.User;
+import com.korea.simple_board.monitoring.QueryCountHeaderAdvice;
+import com.korea.simple_board.monitoring.RequestQueryStats;
+import com.korea.simple_board.security.JwtTokenProvider;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 요청당 SQL 수 예산
+ * 게시글/댓글마다 작성자를 달리해 지연 로딩 N+1 이 생기면 예산을 넘거나 같은 SQL 이 반복되도록 구성한다.
+ */
+@SpringBootTest(properties = "board.query-stats.response-header=true")
+@AutoConfigureMockMvc
+@Transactional
+class QueryBudgetTest {
+    
+    private static final int POSTS = 12;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    
+    private String viewerToken;
+    
+    private Post firstPost;
+    
+    @BeforeEach
+    void setUp() {
+        User viewer = saveUser("budget-viewer");
+        viewerToken = jwtTokenProvider.generateToken(viewer);
+        
+        for (int i = 0; i < POSTS; i++) {
+            Post post = Post.builder()
+                    .title("예산 게시글 " + i)
+                    .content("내용")
+                    .author(saveUser("budget-writer" + i))
+                    .category(Post.Category.GENERAL)
+                    .viewCount(0)
+                    .build();
+            entityManager.persist(post);
+            if (firstPost == null) {
+                firstPost = post;
+            }
+            
+            entityManager.persist(Comment.builder().content("댓글 " + i).post(firstPost).author(saveUser("budget-commenter" + i)).build());
+            entityManager.persist(Scrap.builder().post(post).user(viewer).build());
+        }
+        
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(PostFile.builder()
+                    .originalFileName("file" + i + ".txt")
+                    .storedFileName("stored" + i + ".txt")
+                    .fileUrl("/files/stored" + i + ".txt")
+                    .fileSize(10L)
+                    .contentType("text/plain")
+                    .postId(firstPost.getId())
+                    .build());
+        }
+        
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @Test
+    void postListWithinBudget() throws Exception {
+        assertWithinBudget(authorized(get("/posts").param("size", "10")), 4);
+        assertWithinBudget(authorized(get("/posts").param("category", "GENERAL").param("size", "10")), 4);
+    }
+    
+    @Test
+    void postCursorListWithinBudget() throws Exception {
+        assertWithinBudget(authorized(get("/posts").param("after", "").param("size", "10")), 2);
+    }
+    
+    @Test
+    void postDetailWithinBudget() throws Exception {
+        assertWithinBudget(authorized(post("/posts/{postId}", firstPost.getId())), 5);
+    }
+    
+    @Test
+    void commentThreadWithinBudget() throws Exception {
+        assertWithinBudget(get("/api/comments/{postId}", firstPost.getId()), 2);
+    }
+    
+    @Test
+    void scrappedPostsWithinBudget() throws Exception {
+        assertWithinBudget(authorized(get("/posts/scrapped").param("size", "10")), 3);
+        assertWithinBudget(authorized(get("/posts/scrapped").param("after", "").param("size", "10")), 2);
+    }
+    
+    @Test
+    void userPostsWithinBudget() throws Exception {
+        assertWithinBudget(get("/posts/user/{userId}", "budget-writer0").param("after", ""), 2);
+    }
+    
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + viewerToken);
+    }
+    
+    /**
+     * SQL 수가 예산 이하이고 같은 SQL 이 반복 실행되지 않았는지 확인
+     */
+    private void assertWithinBudget(RequestBuilder request, int budget) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+        
+        RequestQueryStats stats = (RequestQueryStats) result.getRequest().getAttribute(RequestQueryStats.ATTRIBUTE);
+        assertThat(stats).isNotNull();
+        assertThat(stats.getStatements())
+                .as("SQL 예산 초과 - %s", stats.describe())
+                .isLessThanOrEqualTo(budget);
+        assertThat(stats.getRepeatedStatements(2))
+                .as("반복 실행된 SQL - %s", stats.describe())
+                .isEmpty();
+        assertThat(result.getResponse().getHeader(QueryCountHeaderAdvice.HEADER)).isNotNull();
+    }
+    
+    private User saveUser(String userId) {
+        User user = User.builder()
+                .userId(userId)
+                .password("password")
+                .email(userId + "@example.com")
+                .name(userId)
+                .role(User.Role.USER)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,222 @@
+package com.korea.simple_board.repository;
+
+import com.korea.simple_board.entity.Post;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록/커서 조회 쿼리의 실행 계획 확인
+ * 각 finder 가 실제로 실행한 SQL 을 기록해 EXPLAIN 하고, 조회 대상 테이블을 전체 스캔하면 실패한다.
+ * (인덱스가 빠지거나 쿼리 조건이 인덱스를 탈 수 없는 형태로 바뀐 경우를 잡기 위함)
+ */
+@SpringBootTest(properties = {
+        // 다른 테스트와 데이터가 섞이지 않도록 별도 DB 사용
+        "spring.datasource.url=jdbc:h2:mem:queryplan;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.korea.simple_board.repository.QueryPlanTest$SqlRecorder"
+})
+class QueryPlanTest {
+    
+    private static final long ID_BASE = 100_000;
+    private static final int USERS = 200;
+    private static final int POSTS = 5_000;
+    private static final int COMMENTS = 20_000;
+    private static final int SCRAPS_PER_USER = 15;
+    private static final LocalDateTime SEED_START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    
+    // 전체 스캔을 허용하지 않는 테이블
+    private static final List<String> INDEXED_TABLES = List.of("POSTS", "COMMENTS", "SCRAPS", "POST_FILES");
+    
+    private static boolean seeded;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PostRepository postRepository;
+    
+    @Autowired
+    private CommentRepository commentRepository;
+    
+    @Autowired
+    private ScrapRepository scrapRepository;
+    
+    @Autowired
+    private PostFileRepository postFileRepository;
+    
+    private final Pageable page = PageRequest.of(0, 20);
+    private final LocalDateTime cursorCreatedAt = SEED_START.plusMinutes(POSTS / 2);
+    private final Long cursorId = ID_BASE + POSTS / 2;
+    private final Long userId = ID_BASE + 7;
+    private final Long postId = ID_BASE + 42;
+    
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{ID_BASE + i, "plan" + i, "password", "plan" + i + "@example.com", "사용자" + i,
+                    Timestamp.valueOf(SEED_START)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, user_id, password, email, name, role, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, 'USER', ?, ?)", withUpdatedAt(users));
+        
+        Post.Category[] categories = Post.Category.values();
+        List<Object[]> posts = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(new Object[]{ID_BASE + i, "게시글 " + i, "내용 " + i, ID_BASE + i % USERS,
+                    categories[i % categories.length].name(), Timestamp.valueOf(SEED_START.plusMinutes(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO posts (id, title, content, user_id, category, view_count, comment_count, " +
+                "scrap_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 0, 0, 0, ?, ?)", withUpdatedAt(posts));
+        
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENTS; i++) {
+            comments.add(new Object[]{ID_BASE + i, "댓글 " + i, ID_BASE + (i * 7L) % POSTS, ID_BASE + i % USERS,
+                    Timestamp.valueOf(SEED_START.plusSeconds(i * 15L))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, content, post_id, user_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", withUpdatedAt(comments));
+        
+        List<Object[]> scraps = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            for (int k = 0; k < SCRAPS_PER_USER; k++) {
+                // 97 은 게시글 수와 서로소이므로 사용자별로 서로 다른 게시글
+                long post = ID_BASE + (u * 31L + k * 97L) % POSTS;
+                scraps.add(new Object[]{ID_BASE + (long) u * SCRAPS_PER_USER + k, post, ID_BASE + u,
+                        Timestamp.valueOf(SEED_START.plusMinutes(u * SCRAPS_PER_USER + k))});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO scraps (id, post_id, user_id, created_at) VALUES (?, ?, ?, ?)", scraps);
+        
+        List<Object[]> files = new ArrayList<>();
+        for (int i = 0; i < POSTS; i += 5) {
+            files.add(new Object[]{ID_BASE + i, "file" + i + ".png", "stored" + i + ".png", "http://localhost/files/stored" + i + ".png",
+                    1024L, "image/png", ID_BASE + i, Timestamp.valueOf(SEED_START)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO post_files (id, original_file_name, stored_file_name, file_url, file_size, " +
+                "content_type, post_id, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", files);
+        
+        // 옵티마이저가 실제 데이터 분포로 비용을 계산하도록 통계 갱신
+        jdbcTemplate.execute("ANALYZE");
+        seeded = true;
+    }
+    
+    @Test
+    void postFindersUseIndexes() {
+        assertNoFullScan("findListItemsAfter", () -> postRepository.findListItemsAfter(cursorCreatedAt, cursorId, page));
+        assertNoFullScan("findListItemsByCategoryAfter", () -> postRepository.findListItemsByCategoryAfter(
+                Post.Category.DEV, cursorCreatedAt, cursorId, page));
+        assertNoFullScan("findListItemsByAuthorAfter", () -> postRepository.findListItemsByAuthorAfter(
+                userId, cursorCreatedAt, cursorId, page));
+        assertNoFullScan("findListItemsByCategory", () -> postRepository.findListItemsByCategory(Post.Category.DEV, page));
+        assertNoFullScan("findListItemsByAuthor", () -> postRepository.findListItemsByAuthor(userId, page));
+        assertNoFullScan("findListItemsByIdIn", () -> postRepository.findListItemsByIdIn(List.of(postId, postId + 1)));
+        assertNoFullScan("findAllAfter", () -> postRepository.findAllAfter(cursorCreatedAt, cursorId, page));
+    }
+    
+    @Test
+    void commentFindersUseIndexes() {
+        assertNoFullScan("findThreadItems", () -> commentRepository.findThreadItems(postId));
+        assertNoFullScan("findThreadItems(page)", () -> commentRepository.findThreadItems(postId, page));
+        assertNoFullScan("findThreadItemsAfter", () -> commentRepository.findThreadItemsAfter(
+                postId, SEED_START.plusHours(1), ID_BASE + 240, page));
+        assertNoFullScan("findUserCommentsAfter", () -> commentRepository.findUserCommentsAfter(
+                userId, SEED_START.plusDays(1), ID_BASE + 5_760, page));
+        assertNoFullScan("countByPostId", () -> commentRepository.countByPostId(postId));
+    }
+    
+    @Test
+    void scrapFindersUseIndexes() {
+        assertNoFullScan("findScrappedPostsAfter", () -> scrapRepository.findScrappedPostsAfter(
+                userId, SEED_START.plusDays(30), Long.MAX_VALUE, page));
+        assertNoFullScan("findScrappedPosts", () -> scrapRepository.findScrappedPosts(userId, PageRequest.of(0, 5)));
+        assertNoFullScan("findPostIdsByUserId", () -> scrapRepository.findPostIdsByUserId(userId));
+        assertNoFullScan("findScrappedPostIds", () -> scrapRepository.findScrappedPostIds(userId, List.of(postId, postId + 1)));
+        assertNoFullScan("findByPostIdAndUserId", () -> scrapRepository.findByPostIdAndUserId(postId, userId));
+        assertNoFullScan("existsByPostIdAndUserId", () -> scrapRepository.existsByPostIdAndUserId(postId, userId));
+        assertNoFullScan("countByPostId", () -> scrapRepository.countByPostId(postId));
+    }
+    
+    @Test
+    void postFileFindersUseIndexes() {
+        assertNoFullScan("findByPostId", () -> postFileRepository.findByPostId(postId));
+    }
+    
+    private void assertNoFullScan(String finder, Runnable call) {
+        SqlRecorder.RECORDED.clear();
+        call.run();
+        
+        List<String> selects = SqlRecorder.RECORDED.stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("select"))
+                .toList();
+        assertThat(selects).as(finder + " 실행 SQL").isNotEmpty();
+        
+        for (String sql : selects) {
+            String plan = explain(sql);
+            String normalized = plan.toUpperCase(Locale.ROOT).replace("\"", "");
+            for (String table : INDEXED_TABLES) {
+                assertThat(normalized)
+                        .as("%s 가 %s 테이블을 전체 스캔합니다.%n%s", finder, table, plan)
+                        .doesNotContain("PUBLIC." + table + ".TABLESCAN");
+            }
+        }
+    }
+    
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            // EXPLAIN 은 쿼리를 실행하지 않으므로 파라미터를 바인딩하지 않아도 계획을 얻을 수 있음
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                 ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+    }
+    
+    // 마지막 값(created_at)을 updated_at 으로도 사용
+    private static List<Object[]> withUpdatedAt(List<Object[]> rows) {
+        List<Object[]> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Object[] extended = new Object[row.length + 1];
+            System.arraycopy(row, 0, extended, 0, row.length);
+            extended[row.length] = row[row.length - 1];
+            result.add(extended);
+        }
+        return result;
+    }
+    
+    /**
+     * Hibernate 가 실행하는 SQL 기록
+     */
+    public static class SqlRecorder implements StatementInspector {
+        
+        static final List<String> RECORDED = new CopyOnWriteArrayList<>();
+        
+        @Override
+        public String inspect(String sql) {
+            RECORDED.add(sql);
+            return sql;
+        }
+    }
+}
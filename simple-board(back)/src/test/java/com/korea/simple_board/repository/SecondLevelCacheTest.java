@@ -0,0 +1,185 @@
+package com.korea.simple_board.repository;
+
+import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.entity.PostFile;
+import com.korea.simple_board.entity.User;
+import com.korea.simple_board.monitoring.RequestQueryStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 2차 캐시 적중과 쓰기 경로의 무효화 확인
+ * 커밋된 데이터가 있어야 캐시에 올라가므로 트랜잭션 롤백 없이 별도 DB 에서 실행한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2cache;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"
+})
+class SecondLevelCacheTest {
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private PostRepository postRepository;
+    
+    @Autowired
+    private PostFileRepository postFileRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics statistics;
+    
+    private User user;
+    
+    private Post post;
+    
+    @BeforeEach
+    void setUp() {
+        String userId = "l2-" + System.nanoTime();
+        user = userRepository.save(User.builder()
+                .userId(userId)
+                .password("password")
+                .email(userId + "@example.com")
+                .name("캐시 사용자")
+                .role(User.Role.USER)
+                .build());
+        post = postRepository.save(Post.builder()
+                .title("캐시 게시글")
+                .content("내용")
+                .author(user)
+                .category(Post.Category.GENERAL)
+                .viewCount(0)
+                .build());
+        for (int i = 0; i < 2; i++) {
+            postFileRepository.save(file(i));
+        }
+        
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    @Test
+    void findByUserIdIsServedFromCacheUntilUserChanges() {
+        userRepository.findByUserId(user.getUserId());
+        
+        statistics.clear();
+        // 문장 수는 스케줄러 스레드의 문장이 섞이지 않도록 테스트 스레드 기준으로 집계
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            assertThat(userRepository.findByUserId(user.getUserId())).isPresent();
+        } finally {
+            RequestQueryStats.finish();
+        }
+        assertThat(stats.getStatements()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            User managed = userRepository.findById(user.getId()).orElseThrow();
+            managed.setName("바뀐 이름");
+        });
+        
+        assertThat(userRepository.findByUserId(user.getUserId()))
+                .hasValueSatisfying(found -> assertThat(found.getName()).isEqualTo("바뀐 이름"));
+    }
+    
+    @Test
+    void postAuthorIsLoadedFromEntityCache() {
+        readAuthorName();
+        
+        statistics.clear();
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            assertThat(readAuthorName()).isEqualTo("캐시 사용자");
+        } finally {
+            RequestQueryStats.finish();
+        }
+        assertThat(stats.getStatements()).isZero();
+        assertThat(statistics.getCacheRegionStatistics("users").getHitCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void postFilesByPostAreCachedAndInvalidatedOnInsert() {
+        postFileRepository.findByPostId(post.getId());
+        
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            assertThat(postFileRepository.findByPostId(post.getId())).hasSize(2);
+        } finally {
+            RequestQueryStats.finish();
+        }
+        assertThat(stats.getStatements()).isZero();
+        
+        postFileRepository.save(file(2));
+        assertThat(postFileRepository.findByPostId(post.getId())).hasSize(3);
+    }
+    
+    @Test
+    void jdbcViewCountUpdateEvictsCachedPost() {
+        postRepository.findById(post.getId());
+        
+        postRepository.incrementViewCounts(Map.of(post.getId(), 5L));
+        
+        assertThat(postRepository.findById(post.getId()))
+                .hasValueSatisfying(found -> assertThat(found.getViewCount()).isEqualTo(5));
+    }
+    
+    @Test
+    void counterUpdateEvictsOnlyThatPost() {
+        Post other = postRepository.save(Post.builder()
+                .title("다른 게시글")
+                .content("내용")
+                .author(user)
+                .category(Post.Category.GENERAL)
+                .viewCount(0)
+                .build());
+        postRepository.findById(post.getId());
+        postRepository.findById(other.getId());
+        
+        postRepository.addScrapCount(post.getId(), 1);
+        
+        assertThat(postRepository.findById(post.getId()))
+                .hasValueSatisfying(found -> assertThat(found.getScrapCount()).isEqualTo(1));
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            assertThat(postRepository.findById(other.getId())).isPresent();
+        } finally {
+            RequestQueryStats.finish();
+        }
+        assertThat(stats.getStatements()).isZero();
+    }
+    
+    private String readAuthorName() {
+        return transactionTemplate.execute(status ->
+                postRepository.findById(post.getId()).orElseThrow().getAuthor().getName());
+    }
+    
+    private PostFile file(int index) {
+        return PostFile.builder()
+                .originalFileName("file" + index + ".txt")
+                .storedFileName("stored" + index + ".txt")
+                .fileUrl("/files/stored" + index + ".txt")
+                .fileSize(10L)
+                .contentType("text/plain")
+                .postId(post.getId())
+                .build();
+    }
+}
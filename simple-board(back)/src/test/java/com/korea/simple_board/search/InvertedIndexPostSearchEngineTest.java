@@ -0,0 +1,92 @@
+package com.korea.simple_board.search;
+
+import com.korea.simple_board.dto.PostCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexPostSearchEngineTest {
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    
+    private final InvertedIndexPostSearchEngine engine = new InvertedIndexPostSearchEngine();
+    
+    @Test
+    void returnsOnlyPostsContainingEveryQueryToken() {
+        engine.index(1L, "스프링 게시판", "검색 기능", NOW);
+        engine.index(2L, "스프링", "다른 내용", NOW);
+        engine.index(3L, "게시판", "검색", NOW);
+        
+        assertThat(search("스프링 검색")).containsExactly(1L);
+        assertThat(search("없는단어")).isEmpty();
+        assertThat(search("")).isEmpty();
+    }
+    
+    @Test
+    void titleMatchesRankAboveContentMatches() {
+        engine.index(1L, "일반 글", "공지 사항입니다", NOW);
+        engine.index(2L, "공지 사항", "내용", NOW);
+        
+        assertThat(search("공지")).containsExactly(2L, 1L);
+    }
+    
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        engine.index(1L, "검색", "내용", NOW);
+        engine.index(2L, "게시판", "내용", NOW);
+        
+        assertThat(search("색")).containsExactly(1L);
+        assertThat(search("시")).containsExactly(2L);
+    }
+    
+    @Test
+    void updateReplacesAndRemoveDropsIndexedTokens() {
+        engine.index(1L, "이전 제목", "내용", NOW);
+        engine.index(1L, "새 제목", "내용", NOW);
+        
+        assertThat(search("이전")).isEmpty();
+        assertThat(search("제목")).containsExactly(1L);
+        
+        engine.remove(1L);
+        assertThat(search("제목")).isEmpty();
+    }
+    
+    @Test
+    void searchAfterPagesLatestFirstWithIdTieBreak() {
+        engine.index(1L, "검색", "", NOW.minusHours(1));
+        engine.index(2L, "검색", "", NOW);
+        engine.index(3L, "검색", "", NOW);
+        
+        assertThat(engine.searchAfter("검색", PostCursor.first(), 2)).containsExactly(3L, 2L);
+        assertThat(engine.searchAfter("검색", new PostCursor(NOW, 2L), 2)).containsExactly(1L);
+    }
+    
+    @Test
+    void rebuildSwapsInFreshIndexAndReplaysConcurrentChanges() {
+        engine.index(1L, "삭제될 글", "", NOW);
+        
+        engine.rebuild(freshIndex -> {
+            freshIndex.index(2L, "기존 글", "", NOW);
+            freshIndex.index(3L, "수정 전", "", NOW);
+            
+            // 재구성 도중 커밋된 변경은 기존 색인에 바로 반영되어 검색됨
+            engine.index(3L, "수정 후", "", NOW);
+            engine.index(4L, "새 글", "", NOW);
+            assertThat(search("새")).containsExactly(4L);
+        });
+        
+        assertThat(search("삭제")).isEmpty();
+        assertThat(search("기존")).containsExactly(2L);
+        assertThat(search("수정 후")).containsExactly(3L);
+        assertThat(search("전")).isEmpty();
+        assertThat(search("새")).containsExactly(4L);
+    }
+    
+    private List<Long> search(String keyword) {
+        return engine.search(keyword, PageRequest.of(0, 10)).getContent();
+    }
+}
@@ -0,0 +1,32 @@
+package com.korea.simple_board.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+    
+    @Test
+    void splitsWordsIntoBigrams() {
+        assertThat(NGramTokenizer.tokenize("게시판검색")).containsExactly("게시", "시판", "판검", "검색");
+        assertThat(NGramTokenizer.tokenize("Spring Boot")).containsExactly("sp", "pr", "ri", "in", "ng", "bo", "oo", "ot");
+    }
+    
+    @Test
+    void singleCharacterWordIsKeptAsIs() {
+        assertThat(NGramTokenizer.tokenize("a 게시")).containsExactly("a", "게시");
+    }
+    
+    @Test
+    void htmlTagsAndEntitiesAreIgnored() {
+        assertThat(NGramTokenizer.tokenize("<p>공지&nbsp;사항</p>")).containsExactly("공지", "사항");
+        assertThat(NGramTokenizer.tokenize(null)).isEmpty();
+        assertThat(NGramTokenizer.tokenize("!!! ...")).isEmpty();
+    }
+    
+    @Test
+    void indexTokensAlsoContainEachCharacter() {
+        assertThat(NGramTokenizer.tokenizeForIndex("공지 a"))
+                .containsExactly("공지", "공", "지", "a");
+    }
+}
@@ -0,0 +1,131 @@
+package com.korea.simple_board.security;
+
+import com.korea.simple_board.entity.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class JwtAuthenticationFilterTest {
+    
+    private static final String POST_JSON = "{\"title\":\"제목\",\"content\":\"내용\",\"category\":\"QNA\"}";
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+    
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .userId("jwt-user")
+                .password("password")
+                .email("jwt-user@example.com")
+                .name("jwt-user")
+                .role(User.Role.USER)
+                .build();
+        entityManager.persist(user);
+        entityManager.flush();
+    }
+    
+    @Test
+    void validTokenAuthenticatesRequest() throws Exception {
+        createPost(jwtTokenProvider.generateToken(user)).andExpect(status().isOk());
+    }
+    
+    @Test
+    void expiredTokenIsRejected() throws Exception {
+        createPost(token("USER", new Date(System.currentTimeMillis() - 1000))).andExpect(status().isUnauthorized());
+    }
+    
+    @Test
+    void tamperedTokenIsRejected() throws Exception {
+        String token = jwtTokenProvider.generateToken(user);
+        // 본문의 권한 클레임을 바꾸면 서명이 맞지 않음
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"USER\"", "\"ADMIN\"");
+        String tampered = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+        
+        createPost(tampered).andExpect(status().isUnauthorized());
+        
+        // 서명의 첫 글자를 바꿈 (마지막 글자는 일부 비트만 쓰이므로 바꿔도 같은 서명일 수 있음)
+        String signature = parts[2];
+        String forged = parts[0] + "." + parts[1] + "." + (signature.charAt(0) == 'A' ? 'B' : 'A') + signature.substring(1);
+        createPost(forged).andExpect(status().isUnauthorized());
+    }
+    
+    @Test
+    void unknownRoleClaimIsTreatedAsInvalidToken() throws Exception {
+        createPost(token("SUPERUSER", new Date(System.currentTimeMillis() + 60_000))).andExpect(status().isUnauthorized());
+    }
+    
+    @Test
+    void missingHeaderIsRejectedOnProtectedEndpoints() throws Exception {
+        mockMvc.perform(post("/posts").contentType(MediaType.APPLICATION_JSON).content(POST_JSON))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(put("/posts/1").contentType(MediaType.APPLICATION_JSON).content(POST_JSON))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/posts/1"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/comments/1").contentType(MediaType.APPLICATION_JSON).content("{\"content\":\"댓글\"}"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(put("/api/comments/1").contentType(MediaType.APPLICATION_JSON).content("{\"content\":\"댓글\"}"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/comments/1"))
+                .andExpect(status().isUnauthorized());
+    }
+    
+    private ResultActions createPost(String token) throws Exception {
+        return mockMvc.perform(post("/posts")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(POST_JSON));
+    }
+    
+    // 테스트 서명 키로 직접 만든 토큰
+    private String token(String role, Date expiration) {
+        return Jwts.builder()
+                .subject(user.getUserId())
+                .claim("uid", user.getId())
+                .claim("name", user.getName())
+                .claim("role", role)
+                .issuedAt(new Date(expiration.getTime() - 3_600_000))
+                .expiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
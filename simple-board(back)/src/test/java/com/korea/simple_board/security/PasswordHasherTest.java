@@ -0,0 +1,87 @@
+package com.korea.simple_board.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordHasherTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    private PasswordHasher passwordHasher;
+    
+    @AfterEach
+    void tearDown() {
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+    
+    @Test
+    void rejectsWhenPoolAndQueueAreFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = mock(PasswordEncoder.class);
+        when(slowEncoder.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hashed";
+        });
+        // 스레드 1개, 대기열 1칸
+        passwordHasher = new PasswordHasher(slowEncoder, meterRegistry, 10, 1, 1, 5000);
+        
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("second"));
+        while (meterRegistry.get("board.password.hashing.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+        
+        assertThatThrownBy(() -> passwordHasher.encode("third"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get("board.password.hashing.rejected").counter().count()).isEqualTo(1);
+        
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed");
+    }
+    
+    @Test
+    void rejectsWhenHashingTakesLongerThanTimeout() {
+        PasswordEncoder slowEncoder = mock(PasswordEncoder.class);
+        when(slowEncoder.matches(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return true;
+        });
+        passwordHasher = new PasswordHasher(slowEncoder, meterRegistry, 10, 1, 1, 50);
+        
+        assertThatThrownBy(() -> passwordHasher.matches("password", "hashed"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+    }
+    
+    @Test
+    void needsRehashComparesBcryptCost() {
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 4, 1, 1, 5000);
+        
+        assertThat(passwordHasher.needsRehash(passwordHasher.encode("password"))).isFalse();
+        assertThat(passwordHasher.needsRehash(new BCryptPasswordEncoder(5).encode("password"))).isTrue();
+        assertThat(passwordHasher.needsRehash("$2b$12$abcdefghijklmnopqrstuv")).isTrue();
+        // BCrypt 형식이 아닌 값은 다시 해시하지 않음
+        assertThat(passwordHasher.needsRehash(null)).isFalse();
+        assertThat(passwordHasher.needsRehash("password")).isFalse();
+        assertThat(passwordHasher.needsRehash("$2a$1x$abc")).isFalse();
+        assertThat(passwordHasher.needsRehash("$argon2id$v=19$m=16384")).isFalse();
+    }
+}
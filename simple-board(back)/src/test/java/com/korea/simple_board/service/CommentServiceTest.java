@@ -0,0 +1,144 @@
+package com.korea.simple_board.service;
+
+import com.korea.simple_board.cache.UserIdentityCache;
+import com.korea.simple_board.dto.CommentDto;
+import com.korea.simple_board.dto.PostCursor;
+import com.korea.simple_board.entity.Comment;
+import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.entity.User;
+import com.korea.simple_board.monitoring.RequestQueryStats;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class CommentServiceTest {
+    
+    @Autowired
+    private CommentService commentService;
+    
+    @Autowired
+    private UserIdentityCache userIdentityCache;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    private Long postId;
+    
+    private User writer;
+    
+    @BeforeEach
+    void setUp() {
+        writer = saveUser("writer");
+        Post post = Post.builder()
+                .title("게시글")
+                .content("내용")
+                .author(writer)
+                .category(Post.Category.QNA)
+                .viewCount(0)
+                .build();
+        entityManager.persist(post);
+        postId = post.getId();
+        
+        // 댓글마다 작성자를 달리하여 작성자 지연 로딩이 발생하는 상황을 재현
+        for (int i = 0; i < 25; i++) {
+            entityManager.persist(Comment.builder().content("댓글 " + i).post(post).author(saveUser("commenter" + i)).build());
+        }
+        
+        // 게시글 작성자가 다른 게시글들에 남긴 댓글
+        for (int i = 0; i < 15; i++) {
+            Post other = Post.builder()
+                    .title("다른 게시글 " + i)
+                    .content("내용")
+                    .author(saveUser("other" + i))
+                    .category(Post.Category.QNA)
+                    .viewCount(0)
+                    .build();
+            entityManager.persist(other);
+            entityManager.persist(Comment.builder().content("내 댓글 " + i + " " + "가".repeat(200)).post(other).author(writer).build());
+        }
+        
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @Test
+    void getCommentsByPostIdLoadsThreadInSingleStatement() {
+        // SessionFactory 통계는 스케줄러 스레드의 문장까지 세므로 테스트 스레드 기준으로 집계
+        RequestQueryStats stats = RequestQueryStats.start();
+        CommentDto.ThreadResponse response;
+        try {
+            response = commentService.getCommentsByPostId(postId);
+        } finally {
+            RequestQueryStats.finish();
+        }
+        
+        assertThat(stats.getStatements()).isEqualTo(1);
+        assertThat(response.getComments()).hasSize(25);
+        assertThat(response.getComments().get(0).getAuthorUserId()).isEqualTo("commenter0");
+    }
+    
+    @Test
+    void cursorPagesCoverWholeThreadInOrder() {
+        List<String> contents = new ArrayList<>();
+        PostCursor cursor = PostCursor.first();
+        CommentDto.ThreadResponse page;
+        do {
+            page = commentService.getCommentsByPostId(postId, cursor, 10);
+            page.getComments().forEach(comment -> contents.add(comment.getContent()));
+            cursor = page.isHasNext() ? PostCursor.decode(page.getNextCursor()) : null;
+        } while (cursor != null);
+        
+        assertThat(contents).hasSize(25);
+        assertThat(contents.get(0)).isEqualTo("댓글 0");
+        assertThat(contents.get(24)).isEqualTo("댓글 24");
+    }
+    
+    @Test
+    void getCommentsByUserIdPagesNewestFirstWithPostTitle() {
+        // 이전 테스트에서 롤백된 사용자의 식별 정보가 캐시에 남지 않도록 제거
+        userIdentityCache.evict(writer.getUserId());
+        commentService.getCommentsByUserId(writer.getUserId(), PostCursor.first(), 10);
+        
+        RequestQueryStats stats = RequestQueryStats.start();
+        CommentDto.UserCommentsResponse first;
+        try {
+            first = commentService.getCommentsByUserId(writer.getUserId(), PostCursor.first(), 10);
+        } finally {
+            RequestQueryStats.finish();
+        }
+        assertThat(stats.getStatements()).isEqualTo(1);
+        
+        assertThat(first.getComments()).hasSize(10);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getComments().get(0).getPostTitle()).isEqualTo("다른 게시글 14");
+        assertThat(first.getComments().get(0).getSnippet()).hasSize(100);
+        
+        CommentDto.UserCommentsResponse second = commentService.getCommentsByUserId(
+                writer.getUserId(), PostCursor.decode(first.getNextCursor()), 10);
+        assertThat(second.getComments()).hasSize(5);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getComments().get(4).getPostTitle()).isEqualTo("다른 게시글 0");
+    }
+    
+    private User saveUser(String userId) {
+        User user = User.builder()
+                .userId(userId)
+                .password("password")
+                .email(userId + "@example.com")
+                .name(userId)
+                .role(User.Role.USER)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
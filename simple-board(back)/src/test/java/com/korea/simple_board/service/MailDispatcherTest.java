@@ -0,0 +1,123 @@
+package com.korea.simple_board.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.korea.simple_board.dto.UserDto;
+import com.korea.simple_board.entity.MailOutbox;
+import com.korea.simple_board.entity.User;
+import com.korea.simple_board.repository.MailOutboxRepository;
+import com.korea.simple_board.repository.UserRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 가짜 SMTP 서버(GreenMail)로 아웃박스 발송 확인
+ */
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        // 스케줄러 대신 테스트에서 직접 발송
+        "board.mail.dispatch-interval-ms=3600000"
+})
+class MailDispatcherTest {
+    
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private MailDispatcher mailDispatcher;
+    
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        mailOutboxRepository.deleteAll();
+        user = userRepository.save(User.builder()
+                .userId("mailuser")
+                .password("password")
+                .email("mailuser@example.com")
+                .name("메일 사용자")
+                .role(User.Role.USER)
+                .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        mailOutboxRepository.deleteAll();
+        userRepository.delete(user);
+    }
+    
+    @Test
+    void findPasswordQueuesMailAndDispatcherSendsIt() throws Exception {
+        userService.findPassword(findPasswordRequest());
+        
+        // 요청 처리 시점에는 아웃박스에만 저장되어 있음
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+        assertThat(mailOutboxRepository.findAll())
+                .extracting(MailOutbox::getStatus)
+                .containsExactly(MailOutbox.Status.PENDING);
+        
+        mailDispatcher.dispatch();
+        
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).isEqualTo("[Simple Board] 임시 비밀번호 발급");
+        assertThat(GreenMailUtil.getBody(received[0])).isNotBlank();
+        assertThat(mailOutboxRepository.findAll())
+                .extracting(MailOutbox::getStatus)
+                .containsExactly(MailOutbox.Status.SENT);
+        // 발송이 끝나면 임시 비밀번호가 담긴 본문은 남기지 않음
+        assertThat(mailOutboxRepository.findAll())
+                .extracting(MailOutbox::getBody)
+                .containsExactly("");
+    }
+    
+    @Test
+    void smtpFailureKeepsPasswordChangeAndSchedulesRetry() {
+        greenMail.stop();
+        String oldPassword = user.getPassword();
+        
+        userService.findPassword(findPasswordRequest());
+        mailDispatcher.dispatch();
+        
+        // SMTP 오류가 비밀번호 변경을 롤백하지 않음
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isNotEqualTo(oldPassword);
+        
+        List<MailOutbox> outbox = mailOutboxRepository.findAll();
+        assertThat(outbox).hasSize(1);
+        MailOutbox mail = outbox.get(0);
+        assertThat(mail.getStatus()).isEqualTo(MailOutbox.Status.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getLastError()).isNotNull();
+        assertThat(mail.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+    
+    private UserDto.FindPasswordRequest findPasswordRequest() {
+        return UserDto.FindPasswordRequest.builder()
+                .userId(user.getUserId())
+                .email(user.getEmail())
+                .build();
+    }
+}
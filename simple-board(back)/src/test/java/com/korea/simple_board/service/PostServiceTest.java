@@ -0,0 +1,115 @@
+package com.korea.simple_board.service;
+
+import com.korea.simple_board.entity.Comment;
+import com.korea.simple_board.entity.Post;
+import com.korea.simple_board.entity.Scrap;
+import com.korea.simple_board.entity.User;
+import com.korea.simple_board.monitoring.RequestQueryStats;
+import com.korea.simple_board.search.PostSearchEngine;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class PostServiceTest {
+    
+    @Autowired
+    private PostService postService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private PostSearchEngine postSearchEngine;
+    
+    private Long viewerId;
+    
+    // 검색 색인은 트랜잭션 롤백과 무관하므로 테스트가 끝나면 직접 제거
+    private final List<Long> indexedPostIds = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        User viewer = saveUser("viewer");
+        viewerId = viewer.getId();
+        
+        for (int i = 0; i < 30; i++) {
+            // 게시글마다 작성자를 달리하여 작성자 지연 로딩이 발생하는 상황을 재현
+            User author = saveUser("author" + i);
+            
+            Post post = Post.builder()
+                    .title("게시글 " + i)
+                    .content("내용 " + i)
+                    .author(author)
+                    .category(Post.Category.QNA)
+                    .viewCount(0)
+                    .build();
+            entityManager.persist(post);
+            postSearchEngine.index(post.getId(), post.getTitle(), post.getContent(), post.getCreatedAt());
+            indexedPostIds.add(post.getId());
+            
+            entityManager.persist(Comment.builder().content("댓글").post(post).author(viewer).build());
+            if (i % 2 == 0) {
+                entityManager.persist(Scrap.builder().post(post).user(viewer).build());
+            }
+        }
+        
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        indexedPostIds.forEach(postSearchEngine::remove);
+    }
+    
+    @Test
+    void getPostsStatementCountDoesNotGrowWithPageSize() {
+        long smallPage = countStatements(() -> postService.getPosts(Post.Category.QNA, PageRequest.of(0, 5), viewerId));
+        long largePage = countStatements(() -> postService.getPosts(Post.Category.QNA, PageRequest.of(0, 25), viewerId));
+        
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+    
+    @Test
+    void searchPostsStatementCountDoesNotGrowWithPageSize() {
+        long smallPage = countStatements(() -> postService.searchPosts("게시글", PageRequest.of(0, 5), viewerId));
+        long largePage = countStatements(() -> postService.searchPosts("게시글", PageRequest.of(0, 25), viewerId));
+        
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+    
+    // SessionFactory 통계는 스케줄러(메일 발송, 조회수 반영) 스레드의 문장까지 세므로 테스트 스레드 기준으로 집계
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            action.run();
+            return stats.getStatements();
+        } finally {
+            RequestQueryStats.finish();
+        }
+    }
+    
+    private User saveUser(String userId) {
+        User user = User.builder()
+                .userId(userId)
+                .password("password")
+                .email(userId + "@example.com")
+                .name(userId)
+                .role(User.Role.USER)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
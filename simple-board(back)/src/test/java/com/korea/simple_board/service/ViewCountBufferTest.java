@@ -0,0 +1,81 @@
+package com.korea.simple_board.service;
+
+import com.korea.simple_board.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ViewCountBufferTest {
+    
+    @Test
+    void concurrentIncrementsDuringFlushAreNotLost() throws Exception {
+        PostRepository postRepository = mock(PostRepository.class);
+        AtomicLong flushed = new AtomicLong();
+        doAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            deltas.values().forEach(flushed::addAndGet);
+            return null;
+        }).when(postRepository).incrementViewCounts(anyMap());
+        ViewCountBuffer buffer = new ViewCountBuffer(postRepository);
+        
+        int threads = 4;
+        int perThread = 50_000;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    buffer.increment((long) (i % 3));
+                }
+                done.countDown();
+            });
+            worker.start();
+        }
+        
+        // 조회수가 쌓이는 동안 계속 반영
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                buffer.flush();
+            }
+        });
+        flusher.start();
+        
+        done.await();
+        running.set(false);
+        flusher.join();
+        buffer.flush();
+        
+        assertThat(flushed.get()).isEqualTo((long) threads * perThread);
+        assertThat(buffer.getPendingCount(0L)).isZero();
+    }
+    
+    @Test
+    void failedFlushIsRetriedOnNextCycle() {
+        PostRepository postRepository = mock(PostRepository.class);
+        ViewCountBuffer buffer = new ViewCountBuffer(postRepository);
+        buffer.increment(1L);
+        buffer.increment(1L);
+        
+        doThrow(new RuntimeException("DB 오류")).when(postRepository).incrementViewCounts(anyMap());
+        buffer.flush();
+        assertThat(buffer.getPendingCount(1L)).isEqualTo(2);
+        
+        doAnswer(invocation -> null).when(postRepository).incrementViewCounts(anyMap());
+        buffer.increment(1L);
+        buffer.flush();
+        
+        verify(postRepository).incrementViewCounts(Map.of(1L, 2L));
+        verify(postRepository).incrementViewCounts(Map.of(1L, 3L));
+        assertThat(buffer.getPendingCount(1L)).isZero();
+    }
+}